@@ -0,0 +1,125 @@
+/*
+ *  Copyright 2001-2015 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.benchmark;
+
+import java.util.Random;
+
+/**
+ * Shared test data for the benchmarks.
+ * <p>
+ * The instants are spread over a wide range of years so that caches
+ * keyed by year or period are exercised rather than hit on every call.
+ */
+public final class BenchmarkData {
+
+    /** The number of values in each data set, a power of two. */
+    public static final int SIZE = 1024;
+    /** The mask used to cycle through the data sets. */
+    public static final int MASK = SIZE - 1;
+
+    /** 1900-01-01T00:00:00Z. */
+    private static final long MIN_MILLIS = -2208988800000L;
+    /** 2100-01-01T00:00:00Z. */
+    private static final long MAX_MILLIS = 4102444800000L;
+
+    /**
+     * Restricted constructor.
+     */
+    private BenchmarkData() {
+    }
+
+    /**
+     * Creates a repeatable set of random instants between 1900 and 2100.
+     * 
+     * @return the instants, not null
+     */
+    public static long[] randomInstants() {
+        Random random = new Random(1234L);
+        long[] instants = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            instants[i] = MIN_MILLIS + (long) (random.nextDouble() * (MAX_MILLIS - MIN_MILLIS));
+        }
+        return instants;
+    }
+
+    /**
+     * Creates a repeatable set of random instants between 2040 and 2200,
+     * beyond the precalculated time zone transitions.
+     * 
+     * @return the instants, not null
+     */
+    public static long[] futureInstants() {
+        Random random = new Random(9012L);
+        long[] instants = new long[SIZE];
+        long min = 2208988800000L;  // 2040-01-01T00:00:00Z
+        long max = 7258118400000L;  // 2200-01-01T00:00:00Z
+        for (int i = 0; i < SIZE; i++) {
+            instants[i] = min + (long) (random.nextDouble() * (max - min));
+        }
+        return instants;
+    }
+
+    /**
+     * Creates a repeatable set of random instants between the years -8000 and 10000,
+     * mostly far from 1970.
+     * 
+     * @return the instants, not null
+     */
+    public static long[] distantInstants() {
+        Random random = new Random(3456L);
+        long[] instants = new long[SIZE];
+        long min = -314622835200000L;  // -8000-01-01T00:00:00Z
+        long max = 253402300800000L;  // 10000-01-01T00:00:00Z
+        for (int i = 0; i < SIZE; i++) {
+            instants[i] = min + (long) (random.nextDouble() * (max - min));
+        }
+        return instants;
+    }
+
+    /**
+     * Creates a repeatable set of ascending instants within a few recent years.
+     * 
+     * @return the instants, not null
+     */
+    public static long[] recentInstants() {
+        Random random = new Random(5678L);
+        long[] instants = new long[SIZE];
+        long millis = 1262304000000L;  // 2010-01-01T00:00:00Z
+        for (int i = 0; i < SIZE; i++) {
+            millis += random.nextInt(86400000) * 2L;
+            instants[i] = millis;
+        }
+        return instants;
+    }
+
+    /**
+     * Creates a repeatable set of ascending instants a few minutes apart,
+     * as found in a time series.
+     * 
+     * @return the instants, not null
+     */
+    public static long[] denseInstants() {
+        Random random = new Random(7890L);
+        long[] instants = new long[SIZE];
+        long millis = 1427500800000L;  // 2015-03-28T00:00:00Z
+        for (int i = 0; i < SIZE; i++) {
+            millis += random.nextInt(600000);
+            instants[i] = millis;
+        }
+        return instants;
+    }
+
+}
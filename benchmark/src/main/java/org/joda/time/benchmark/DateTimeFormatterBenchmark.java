@@ -0,0 +1,199 @@
+/*
+ *  Copyright 2001-2015 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.DateTimeParseContext;
+import org.joda.time.format.DateTimePrintContext;
+import org.joda.time.format.ISODateTimeFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks printing and parsing with {@link DateTimeFormatter}.
+ * <p>
+ * Run with <code>-prof gc</code> to report the allocation per parse as <code>gc.alloc.rate.norm</code>.
+ * Once warmed up, {@code parseMillis} with a {@link DateTimeParseContext} should allocate nothing,
+ * thus {@code parseMillisISODateTime} reports zero while the patterns parsed in London report only the allocation of the zone's offset cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateTimeFormatterBenchmark {
+
+    private DateTimeFormatter pattern;
+    private DateTimeFormatter isoDateTime;
+    private DateTimeFormatter isoDateTimeParser;
+    private DateTimeFormatter textPattern;
+    private long[] instants;
+    private String[] patternTexts;
+    private String[] isoTexts;
+    private String[] textPatternTexts;
+    private String[] invalidPatternTexts;
+    private String[] invalidDateTexts;
+    private byte[][] patternBytes;
+    private byte[] printBytes = new byte[64];
+    private ParsePosition position = new ParsePosition(0);
+    private DateTimeParseContext context = new DateTimeParseContext();
+    private DateTimePrintContext printContext = new DateTimePrintContext();
+    private int index;
+
+    @Setup
+    public void setUp() {
+        DateTimeZone zone = DateTimeZone.forID("Europe/London");
+        pattern = DateTimeFormat.forPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(zone);
+        isoDateTime = ISODateTimeFormat.dateTime().withZone(zone);
+        isoDateTimeParser = ISODateTimeFormat.dateTimeParser().withOffsetParsed();
+        textPattern = DateTimeFormat.forPattern("EEE, d MMM yyyy HH:mm:ss").withZone(zone).withLocale(Locale.ENGLISH);
+        instants = BenchmarkData.randomInstants();
+        patternTexts = new String[instants.length];
+        isoTexts = new String[instants.length];
+        textPatternTexts = new String[instants.length];
+        invalidPatternTexts = new String[instants.length];
+        invalidDateTexts = new String[instants.length];
+        patternBytes = new byte[instants.length][];
+        for (int i = 0; i < instants.length; i++) {
+            patternTexts[i] = pattern.print(instants[i]);
+            isoTexts[i] = isoDateTime.print(instants[i]);
+            textPatternTexts[i] = textPattern.print(instants[i]);
+            invalidPatternTexts[i] = patternTexts[i].replace(':', '.');
+            invalidDateTexts[i] = patternTexts[i].substring(0, 5) + "02-30" + patternTexts[i].substring(10);
+            patternBytes[i] = patternTexts[i].getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private int next() {
+        return index++ & BenchmarkData.MASK;
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public String printPattern() {
+        return pattern.print(instants[next()]);
+    }
+
+    @Benchmark
+    public long parseMillisPattern() {
+        return pattern.parseMillis(patternTexts[next()], context);
+    }
+
+    // new parse state for each parse
+    @Benchmark
+    public long parseMillisPatternNoContext() {
+        return pattern.parseMillis(patternTexts[next()]);
+    }
+
+    // ASCII bytes, as held by a network or file decoder
+    @Benchmark
+    public long parseMillisPatternDecoded() {
+        return pattern.parseMillis(new String(patternBytes[next()], StandardCharsets.US_ASCII), context);
+    }
+
+    @Benchmark
+    public long parseMillisPatternBytes() {
+        byte[] bytes = patternBytes[next()];
+        return pattern.parseMillis(bytes, 0, bytes.length, context);
+    }
+
+    @Benchmark
+    public byte[] printPatternEncoded() {
+        return pattern.print(instants[next()]).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public int printPatternBytes() {
+        return pattern.printTo(printBytes, 0, instants[next()], printContext);
+    }
+
+    @Benchmark
+    public DateTime parseDateTimePattern() {
+        return pattern.parseDateTime(patternTexts[next()]);
+    }
+
+    // dirty input, where the exception dominates
+    @Benchmark
+    public long parseMillisInvalidPattern() {
+        try {
+            return pattern.parseMillis(invalidPatternTexts[next()], context);
+        } catch (IllegalArgumentException ex) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public long parseMillisInvalidPatternQuietly() {
+        position.setIndex(0);
+        position.setErrorIndex(-1);
+        long millis = pattern.parseMillis(invalidPatternTexts[next()], position, context);
+        return (position.getErrorIndex() < 0 ? millis : -1);
+    }
+
+    // a date only invalid in context, the 30th of February
+    @Benchmark
+    public long parseMillisInvalidDateQuietly() {
+        position.setIndex(0);
+        position.setErrorIndex(-1);
+        long millis = pattern.parseMillis(invalidDateTexts[next()], position, context);
+        return (position.getErrorIndex() < 0 ? millis : -1);
+    }
+
+    // month and day of week names, as in "Mon, 12 Jan 2015 10:30:00"
+    @Benchmark
+    public long parseMillisTextPattern() {
+        return textPattern.parseMillis(textPatternTexts[next()], context);
+    }
+
+    @Benchmark
+    public String printISODateTime() {
+        return isoDateTime.print(instants[next()]);
+    }
+
+    @Benchmark
+    public long parseMillisISODateTime() {
+        return isoDateTime.parseMillis(isoTexts[next()], context);
+    }
+
+    @Benchmark
+    public long parseMillisISODateTimeParser() {
+        return isoDateTimeParser.parseMillis(isoTexts[next()], context);
+    }
+
+    // via StringConverter and ISODateTimeFormat.dateTimeParser()
+    @Benchmark
+    public DateTime newDateTimeISOString() {
+        return new DateTime(isoTexts[next()]);
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ *  Copyright 2001-2015 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.DateTimeZone;
+import org.joda.time.tz.CachedDateTimeZone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks offset lookups on {@link DateTimeZone}, both through the
+ * {@link CachedDateTimeZone} returned by {@code forID} and directly on the
+ * uncached zone underneath it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateTimeZoneBenchmark {
+
+    @Param({"Europe/London", "America/New_York", "Asia/Kolkata"})
+    public String zoneId;
+
+    private DateTimeZone cached;
+    private DateTimeZone uncached;
+    private long[] instants;
+    private long[] recent;
+    private long[] future;
+    private int[] offsets;
+    private long[] converted;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        cached = DateTimeZone.forID(zoneId);
+        if (cached instanceof CachedDateTimeZone) {
+            uncached = ((CachedDateTimeZone) cached).getUncachedZone();
+        } else {
+            uncached = cached;
+        }
+        instants = BenchmarkData.randomInstants();
+        recent = BenchmarkData.recentInstants();
+        future = BenchmarkData.futureInstants();
+        offsets = new int[BenchmarkData.SIZE];
+        converted = new long[BenchmarkData.SIZE];
+    }
+
+    private int next() {
+        return index++ & BenchmarkData.MASK;
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public int getOffsetCached() {
+        return cached.getOffset(instants[next()]);
+    }
+
+    @Benchmark
+    public int getOffsetCachedRecent() {
+        return cached.getOffset(recent[next()]);
+    }
+
+    @Benchmark
+    public int getOffsetUncached() {
+        return uncached.getOffset(instants[next()]);
+    }
+
+    @Benchmark
+    public int getOffsetCachedFuture() {
+        return cached.getOffset(future[next()]);
+    }
+
+    @Benchmark
+    public int getOffsetUncachedFuture() {
+        return uncached.getOffset(future[next()]);
+    }
+
+    @Benchmark
+    public long nextTransitionUncachedFuture() {
+        return uncached.nextTransition(future[next()]);
+    }
+
+    @Benchmark
+    public int getOffsetFromLocalCached() {
+        return cached.getOffsetFromLocal(instants[next()]);
+    }
+
+    @Benchmark
+    public int getOffsetFromLocalUncached() {
+        return uncached.getOffsetFromLocal(instants[next()]);
+    }
+
+    @Benchmark
+    public long nextTransitionCached() {
+        return cached.nextTransition(instants[next()]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkData.SIZE)
+    public int[] getOffsetsBulkRecent() {
+        cached.getOffsets(recent, offsets);
+        return offsets;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkData.SIZE)
+    public long[] convertLocalToUTCBulkRecent() {
+        cached.convertLocalToUTC(recent, converted, false);
+        return converted;
+    }
+
+    @Benchmark
+    public DateTimeZone forID() {
+        return DateTimeZone.forID(zoneId);
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright 2001-2015 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.LocalDate;
+import org.joda.time.chrono.ISOChronology;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link LocalDate} arithmetic and field access.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LocalDateBenchmark {
+
+    private LocalDate[] dates;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        long[] instants = BenchmarkData.randomInstants();
+        dates = new LocalDate[instants.length];
+        for (int i = 0; i < instants.length; i++) {
+            dates[i] = new LocalDate(instants[i], ISOChronology.getInstanceUTC());
+        }
+    }
+
+    private int next() {
+        return index++ & BenchmarkData.MASK;
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public LocalDate plusDays() {
+        return dates[next()].plusDays(17);
+    }
+
+    @Benchmark
+    public LocalDate plusMonths() {
+        return dates[next()].plusMonths(5);
+    }
+
+    @Benchmark
+    public int getDayOfMonth() {
+        return dates[next()].getDayOfMonth();
+    }
+
+}
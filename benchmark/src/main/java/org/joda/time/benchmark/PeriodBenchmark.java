@@ -0,0 +1,87 @@
+/*
+ *  Copyright 2001-2015 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Period;
+import org.joda.time.PeriodType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link Period} arithmetic.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PeriodBenchmark {
+
+    private Period period;
+    private DateTime[] dateTimes;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        period = new Period(1, 2, 0, 3, 4, 5, 6, 7);
+        long[] instants = BenchmarkData.randomInstants();
+        DateTimeZone zone = DateTimeZone.forID("Europe/Paris");
+        dateTimes = new DateTime[instants.length];
+        for (int i = 0; i < instants.length; i++) {
+            dateTimes[i] = new DateTime(instants[i], zone);
+        }
+    }
+
+    private int next() {
+        return index++ & BenchmarkData.MASK;
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public Period plus() {
+        return period.plus(Period.days(next() & 31));
+    }
+
+    @Benchmark
+    public Period normalizedStandard() {
+        return period.withHours(next() & 127).normalizedStandard();
+    }
+
+    @Benchmark
+    public DateTime dateTimePlusPeriod() {
+        return dateTimes[next()].plus(period);
+    }
+
+    @Benchmark
+    public Period periodBetween() {
+        int i = next();
+        return new Period(dateTimes[i], dateTimes[(i + 1) & BenchmarkData.MASK], PeriodType.yearMonthDayTime());
+    }
+
+}
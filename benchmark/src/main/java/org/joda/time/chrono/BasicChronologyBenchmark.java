@@ -0,0 +1,237 @@
+/*
+ *  Copyright 2001-2015 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.chrono;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTimeFieldType;
+import org.joda.time.DateTimeZone;
+import org.joda.time.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the year, month and day calculations in {@link BasicChronology}.
+ * <p>
+ * This class is in the chrono package to allow access to the package scoped
+ * calculation methods.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BasicChronologyBenchmark {
+
+    private BasicChronology iso;
+    private BasicChronology julian;
+    private ZonedChronology isoZoned;
+    private LenientChronology lenient;
+    private long[] instants;
+    private long[] recent;
+    private long[] distant;
+    private long[] dense;
+    private LocalFieldCursor cursor;
+    private DateTimeZone[] zones;
+    private int[] values;
+    private int[] denseYears;
+    private int[] denseMonths;
+    private int[] denseDays;
+    private int[] denseMillisOfDay;
+    private long[] results;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        iso = GregorianChronology.getInstanceUTC();
+        julian = JulianChronology.getInstanceUTC();
+        isoZoned = ZonedChronology.getInstance(iso, DateTimeZone.forID("America/New_York"));
+        lenient = LenientChronology.getInstance(isoZoned);
+        instants = BenchmarkData.randomInstants();
+        recent = BenchmarkData.recentInstants();
+        distant = BenchmarkData.distantInstants();
+        dense = BenchmarkData.denseInstants();
+        cursor = new LocalFieldCursor(isoZoned);
+        zones = new DateTimeZone[] {
+            DateTimeZone.forID("Europe/London"), DateTimeZone.forID("Asia/Tokyo"),
+            DateTimeZone.forID("America/New_York"), DateTimeZone.forID("Australia/Sydney"),
+        };
+        values = new int[7];
+        denseYears = new int[BenchmarkData.SIZE];
+        denseMonths = new int[BenchmarkData.SIZE];
+        denseDays = new int[BenchmarkData.SIZE];
+        denseMillisOfDay = new int[BenchmarkData.SIZE];
+        results = new long[BenchmarkData.SIZE];
+        for (int i = 0; i < BenchmarkData.SIZE; i++) {
+            isoZoned.getDateTimeFields(dense[i], values);
+            denseYears[i] = values[0];
+            denseMonths[i] = values[1];
+            denseDays[i] = values[2];
+            denseMillisOfDay[i] = isoZoned.millisOfDay().get(dense[i]);
+        }
+    }
+
+    private int next() {
+        return index++ & BenchmarkData.MASK;
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public int getYear() {
+        return iso.getYear(instants[next()]);
+    }
+
+    @Benchmark
+    public int getYearRecent() {
+        return iso.getYear(recent[next()]);
+    }
+
+    @Benchmark
+    public int getYearDistant() {
+        return iso.getYear(distant[next()]);
+    }
+
+    // Julian uses the year cache, for comparison
+    @Benchmark
+    public int getYearJulian() {
+        return julian.getYear(instants[next()]);
+    }
+
+    @Benchmark
+    public int getYearDistantJulian() {
+        return julian.getYear(distant[next()]);
+    }
+
+    @Benchmark
+    public int getMonthOfYear() {
+        return iso.getMonthOfYear(instants[next()]);
+    }
+
+    @Benchmark
+    public int getDayOfMonth() {
+        return iso.getDayOfMonth(instants[next()]);
+    }
+
+    @Benchmark
+    public long getDateTimeMillis() {
+        return iso.getDateTimeMillis(2015, 6, (next() & 15) + 1, 12, 30, 0, 0);
+    }
+
+    @Benchmark
+    public int zonedDayOfMonth() {
+        return isoZoned.dayOfMonth().get(instants[next()]);
+    }
+
+    @Benchmark
+    public int[] zonedDateTimeFields() {
+        isoZoned.getDateTimeFields(instants[next()], values);
+        return values;
+    }
+
+    @Benchmark
+    public int[] zonedDateTimeFieldsSeparately() {
+        long instant = instants[next()];
+        values[0] = isoZoned.year().get(instant);
+        values[1] = isoZoned.monthOfYear().get(instant);
+        values[2] = isoZoned.dayOfMonth().get(instant);
+        values[3] = isoZoned.hourOfDay().get(instant);
+        values[4] = isoZoned.minuteOfHour().get(instant);
+        values[5] = isoZoned.secondOfMinute().get(instant);
+        values[6] = isoZoned.millisOfSecond().get(instant);
+        return values;
+    }
+
+    @Benchmark
+    public int[] zonedDateTimeFieldsView() {
+        LocalFieldView view = new LocalFieldView(instants[next()], isoZoned);
+        values[0] = view.get(DateTimeFieldType.year());
+        values[1] = view.get(DateTimeFieldType.monthOfYear());
+        values[2] = view.get(DateTimeFieldType.dayOfMonth());
+        values[3] = view.get(DateTimeFieldType.hourOfDay());
+        values[4] = view.get(DateTimeFieldType.minuteOfHour());
+        values[5] = view.get(DateTimeFieldType.secondOfMinute());
+        values[6] = view.get(DateTimeFieldType.millisOfSecond());
+        return values;
+    }
+
+    // the dense instants cross a daylight savings transition
+    @Benchmark
+    public int[] zonedDateTimeFieldsDense() {
+        isoZoned.getDateTimeFields(dense[next()], values);
+        return values;
+    }
+
+    @Benchmark
+    public int[] cursorDateTimeFieldsDense() {
+        cursor.setInstant(dense[next()]);
+        cursor.getDateTimeFields(values);
+        return values;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkData.SIZE)
+    public long[] getDateTimeMillisDense() {
+        for (int i = 0; i < BenchmarkData.SIZE; i++) {
+            results[i] = iso.getDateTimeMillis(denseYears[i], denseMonths[i], denseDays[i], denseMillisOfDay[i]);
+        }
+        return results;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkData.SIZE)
+    public long[] getDateTimeMillisDenseBulk() {
+        iso.getDateTimeMillis(denseYears, denseMonths, denseDays, denseMillisOfDay, results, BenchmarkData.SIZE);
+        return results;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkData.SIZE)
+    public long[] zonedDateTimeMillisDense() {
+        for (int i = 0; i < BenchmarkData.SIZE; i++) {
+            results[i] = isoZoned.getDateTimeMillis(denseYears[i], denseMonths[i], denseDays[i], denseMillisOfDay[i]);
+        }
+        return results;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkData.SIZE)
+    public long[] zonedDateTimeMillisDenseBulk() {
+        isoZoned.getDateTimeMillis(denseYears, denseMonths, denseDays, denseMillisOfDay, results, BenchmarkData.SIZE);
+        return results;
+    }
+
+    @Benchmark
+    public Chronology zonedWithZone() {
+        return isoZoned.withZone(zones[next() & 3]);
+    }
+
+    @Benchmark
+    public Chronology lenientWithZone() {
+        return lenient.withZone(zones[next() & 3]);
+    }
+
+}
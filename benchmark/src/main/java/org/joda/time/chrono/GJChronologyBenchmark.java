@@ -0,0 +1,126 @@
+/*
+ *  Copyright 2001-2015 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.chrono;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.Chronology;
+import org.joda.time.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link GJChronology} against {@link GregorianChronology} for modern instants.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GJChronologyBenchmark {
+
+    private Chronology gj;
+    private Chronology gregorian;
+    private long[] instants;
+    private int[] values;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        gj = GJChronology.getInstanceUTC();
+        gregorian = GregorianChronology.getInstanceUTC();
+        instants = BenchmarkData.randomInstants();
+        values = new int[7];
+    }
+
+    private int next() {
+        return index++ & BenchmarkData.MASK;
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public int gjYear() {
+        return gj.year().get(instants[next()]);
+    }
+
+    @Benchmark
+    public int gjDayOfMonth() {
+        return gj.dayOfMonth().get(instants[next()]);
+    }
+
+    @Benchmark
+    public int[] gjDateTimeFields() {
+        gj.getDateTimeFields(instants[next()], values);
+        return values;
+    }
+
+    @Benchmark
+    public long gjAddMonths() {
+        return gj.monthOfYear().add(instants[next()], 5);
+    }
+
+    @Benchmark
+    public long gjSetDayOfMonth() {
+        return gj.dayOfMonth().set(instants[next()], 1);
+    }
+
+    @Benchmark
+    public long gjDateTimeMillis() {
+        return gj.getDateTimeMillis(2015, 6, (next() & 15) + 1, 12, 30, 0, 0);
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public int gregorianYear() {
+        return gregorian.year().get(instants[next()]);
+    }
+
+    @Benchmark
+    public int gregorianDayOfMonth() {
+        return gregorian.dayOfMonth().get(instants[next()]);
+    }
+
+    @Benchmark
+    public int[] gregorianDateTimeFields() {
+        gregorian.getDateTimeFields(instants[next()], values);
+        return values;
+    }
+
+    @Benchmark
+    public long gregorianAddMonths() {
+        return gregorian.monthOfYear().add(instants[next()], 5);
+    }
+
+    @Benchmark
+    public long gregorianSetDayOfMonth() {
+        return gregorian.dayOfMonth().set(instants[next()], 1);
+    }
+
+    @Benchmark
+    public long gregorianDateTimeMillis() {
+        return gregorian.getDateTimeMillis(2015, 6, (next() & 15) + 1, 12, 30, 0, 0);
+    }
+
+}
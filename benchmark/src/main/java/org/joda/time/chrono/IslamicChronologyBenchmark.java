@@ -0,0 +1,93 @@
+/*
+ *  Copyright 2001-2015 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.chrono;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the Islamic calendar, which uses a {@link MonthTable}.
+ * <p>
+ * See {@link IslamicChronologyBenchmark.WithoutTable} for the same benchmarks
+ * with the table disabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IslamicChronologyBenchmark {
+
+    private BasicChronology islamic;
+    private long[] instants;
+    private int[] values;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        islamic = IslamicChronology.getInstanceUTC();
+        instants = BenchmarkData.randomInstants();
+        values = new int[7];
+    }
+
+    private int next() {
+        return index++ & BenchmarkData.MASK;
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public int islamicYear() {
+        return islamic.getYear(instants[next()]);
+    }
+
+    @Benchmark
+    public int islamicDayOfMonth() {
+        return islamic.getDayOfMonth(instants[next()]);
+    }
+
+    @Benchmark
+    public int[] islamicDateTimeFields() {
+        islamic.getDateTimeFields(instants[next()], values);
+        return values;
+    }
+
+    @Benchmark
+    public long islamicDateTimeMillis() {
+        return islamic.getDateTimeMillis(1436, (next() & 7) + 1, 15, 0);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The same benchmarks with an empty month table, as before it was added.
+     */
+    @Fork(value = 1, jvmArgsAppend = {
+        "-Dorg.joda.time.chrono.MonthTable.startYear=0", "-Dorg.joda.time.chrono.MonthTable.endYear=0"})
+    public static class WithoutTable extends IslamicChronologyBenchmark {
+    }
+
+}
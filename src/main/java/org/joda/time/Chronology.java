@@ -154,6 +154,109 @@ public abstract class Chronology {
                            int hourOfDay, int minuteOfHour,
                            int secondOfMinute, int millisOfSecond);
 
+    /**
+     * Converts arrays of year, month, day, and millisecond values to
+     * datetime millisecond instants, as though by calling
+     * {@link #getDateTimeMillis(int, int, int, int)} for each index.
+     * <p>
+     * This is intended for decoding a column of dates in one call.
+     * The values at each index up to the count are converted, and the
+     * result stored at the same index of the instants array.
+     * If a set of values is invalid, an IllegalArgumentException is thrown.
+     * The instants before that index are stored, while the elements of the
+     * instants array from that index on may have been overwritten.
+     * <p>
+     * The default implementation calls
+     * {@link #getDateTimeMillis(int, int, int, int)} for each index.
+     * Subclasses are encouraged to provide a more efficient implementation.
+     *
+     * @param years  the years to use, not null
+     * @param monthsOfYear  the months to use, not null
+     * @param daysOfMonth  the days of month to use, not null
+     * @param millisOfDay  the milliseconds to use, null means midnight
+     * @param instants  the array to receive the instants, not null
+     * @param count  the number of instants to convert
+     * @throws IllegalArgumentException if an array is null or too short, or the values are invalid
+     * @since 2.8
+     */
+    public void getDateTimeMillis(int[] years, int[] monthsOfYear, int[] daysOfMonth,
+                                  int[] millisOfDay, long[] instants, int count) {
+        checkDateTimeMillis(years, monthsOfYear, daysOfMonth, millisOfDay, instants, count);
+        for (int i = 0; i < count; i++) {
+            instants[i] = getDateTimeMillis(years[i], monthsOfYear[i], daysOfMonth[i],
+                                            millisOfDay == null ? 0 : millisOfDay[i]);
+        }
+    }
+
+    /**
+     * Checks the arrays passed to
+     * {@link #getDateTimeMillis(int[], int[], int[], int[], long[], int)}.
+     *
+     * @param years  the years to check
+     * @param monthsOfYear  the months to check
+     * @param daysOfMonth  the days of month to check
+     * @param millisOfDay  the milliseconds to check, may be null
+     * @param instants  the instants to check
+     * @param count  the number of instants to convert
+     * @throws IllegalArgumentException if an array is null or too short
+     */
+    protected static void checkDateTimeMillis(int[] years, int[] monthsOfYear, int[] daysOfMonth,
+                                              int[] millisOfDay, long[] instants, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("The count must not be negative");
+        }
+        if (years == null || years.length < count ||
+                monthsOfYear == null || monthsOfYear.length < count ||
+                daysOfMonth == null || daysOfMonth.length < count ||
+                (millisOfDay != null && millisOfDay.length < count) ||
+                instants == null || instants.length < count) {
+            throw new IllegalArgumentException("The arrays must have a length of at least " + count);
+        }
+    }
+
+    /**
+     * Gets the year, month, day, hour, minute, second, and millisecond values
+     * of an instant, in the same order as the arguments to
+     * {@link #getDateTimeMillis(int, int, int, int, int, int, int)}.
+     * <p>
+     * This is equivalent to calling {@code get} on each of the
+     * {@link #year()}, {@link #monthOfYear()}, {@link #dayOfMonth()},
+     * {@link #hourOfDay()}, {@link #minuteOfHour()}, {@link #secondOfMinute()}
+     * and {@link #millisOfSecond()} fields, but allows the values to be
+     * derived together rather than repeating shared work for each field.
+     * <p>
+     * The default implementation calls upon separate DateTimeFields to
+     * determine the result. Subclasses are encouraged to provide a more
+     * efficient implementation.
+     *
+     * @param instant  the instant to query
+     * @param values  the array to receive the values, at least seven long
+     * @throws IllegalArgumentException if the array is null or too short
+     * @since 2.8
+     */
+    public void getDateTimeFields(long instant, int[] values) {
+        checkDateTimeFields(values);
+        values[0] = year().get(instant);
+        values[1] = monthOfYear().get(instant);
+        values[2] = dayOfMonth().get(instant);
+        values[3] = hourOfDay().get(instant);
+        values[4] = minuteOfHour().get(instant);
+        values[5] = secondOfMinute().get(instant);
+        values[6] = millisOfSecond().get(instant);
+    }
+
+    /**
+     * Checks the array passed to {@link #getDateTimeFields(long, int[])}.
+     *
+     * @param values  the array to check
+     * @throws IllegalArgumentException if the array is null or too short
+     */
+    protected static void checkDateTimeFields(int[] values) {
+        if (values == null || values.length < 7) {
+            throw new IllegalArgumentException("The values array must have a length of at least 7");
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Validates whether the values are valid for the fields of a partial instant.
@@ -378,6 +378,29 @@ public abstract class DateTimeField {
      */
     public abstract long set(long instant, int value);
 
+    /**
+     * Checks whether a value can be set in the milliseconds supplied, without
+     * throwing an exception.
+     * <p>
+     * If this method returns false, then {@link #set(long, int)} would throw an
+     * exception for the value. If it returns true, the value may still be rejected
+     * by set, as a field need not check every rule here.
+     * <p>
+     * This implementation accepts any value if the field is lenient, otherwise it
+     * checks the value against {@link #getMinimumValue()} and {@link #getMaximumValue()}.
+     * Subclasses may check the value against the limits at the instant, provided
+     * they never reject a value that set would accept. A subclass that overrides set
+     * to accept other values, such as by adjusting the value, must override this too.
+     *
+     * @param instant  the milliseconds from 1970-01-01T00:00:00Z to set in
+     * @param value  the value to set, in the units of the field
+     * @return false if setting the value would throw an exception
+     * @since 2.8
+     */
+    public boolean isValidValueForSet(long instant, int value) {
+        return isLenient() || (value >= getMinimumValue() && value <= getMaximumValue());
+    }
+
     /**
      * Sets a value using the specified partial instant.
      * <p>
@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.joda.convert.FromString;
 import org.joda.convert.ToString;
@@ -38,8 +39,10 @@ import org.joda.time.format.DateTimeFormatterBuilder;
 import org.joda.time.format.FormatUtils;
 import org.joda.time.tz.DefaultNameProvider;
 import org.joda.time.tz.FixedDateTimeZone;
+import org.joda.time.tz.MappedZoneInfoProvider;
 import org.joda.time.tz.NameProvider;
 import org.joda.time.tz.Provider;
+import org.joda.time.tz.TransitionCursor;
 import org.joda.time.tz.UTCProvider;
 import org.joda.time.tz.ZoneInfoProvider;
 
@@ -79,18 +82,20 @@ import org.joda.time.tz.ZoneInfoProvider;
  * However, the factory that accepts a TimeZone will attempt to convert from
  * the old short id to a suitable long id.
  * <p>
- * There are four approaches to loading time-zone data, which are tried in this order:
+ * There are five approaches to loading time-zone data, which are tried in this order:
  * <ol>
  * <li>load the specific {@link Provider} specified by the system property
  *   {@code org.joda.time.DateTimeZone.Provider}.
  * <li>load {@link ZoneInfoProvider} using the data in the filing system folder
  *   pointed to by system property {@code org.joda.time.DateTimeZone.Folder}.
+ * <li>load {@link MappedZoneInfoProvider} using the single database file
+ *   pointed to by system property {@code org.joda.time.DateTimeZone.DatabaseFile}.
  * <li>load {@link ZoneInfoProvider} using the data in the classpath location
  *   {@code org/joda/time/tz/data}.
  * <li>load {@link UTCProvider}
  * </ol>
  * <p>
- * Unless you override the standard behaviour, the default if the third approach.
+ * Unless you override the standard behaviour, the default if the fourth approach.
  * <p>
  * DateTimeZone is thread-safe and immutable, and all subclasses must be as
  * well.
@@ -108,6 +113,14 @@ public abstract class DateTimeZone implements Serializable {
     public static final DateTimeZone UTC = UTCDateTimeZone.INSTANCE;
     /** Maximum offset. */
     private static final int MAX_MILLIS = (86400 * 1000) - 1;
+    /** Maximum offset in whole minutes. */
+    private static final int MAX_MINUTES = (24 * 60) - 1;
+    /**
+     * The canonical fixed offset zones for each whole minute offset, indexed
+     * from the most negative offset. This is filled in lazily.
+     */
+    private static final AtomicReferenceArray<DateTimeZone> cFixedOffsetZones =
+                    new AtomicReferenceArray<DateTimeZone>(MAX_MINUTES * 2 + 1);
 
     /**
      * The instance that is providing time zones.
@@ -219,12 +232,7 @@ public abstract class DateTimeZone implements Serializable {
         }
         if (id.startsWith("+") || id.startsWith("-")) {
             int offset = parseOffset(id);
-            if (offset == 0L) {
-                return DateTimeZone.UTC;
-            } else {
-                id = printOffset(offset);
-                return fixedOffsetZone(id, offset);
-            }
+            return fixedOffsetZone(offset);
         }
         throw new IllegalArgumentException("The datetime zone id '" + id + "' is not recognised");
     }
@@ -312,8 +320,7 @@ public abstract class DateTimeZone implements Serializable {
         if (millisOffset < -MAX_MILLIS || millisOffset > MAX_MILLIS) {
             throw new IllegalArgumentException("Millis out of range: " + millisOffset);
         }
-        String id = printOffset(millisOffset);
-        return fixedOffsetZone(id, millisOffset);
+        return fixedOffsetZone(millisOffset);
     }
 
     /**
@@ -363,12 +370,7 @@ public abstract class DateTimeZone implements Serializable {
             if (convId.startsWith("GMT+") || convId.startsWith("GMT-")) {
                 convId = convId.substring(3);
                 int offset = parseOffset(convId);
-                if (offset == 0L) {
-                    return DateTimeZone.UTC;
-                } else {
-                    convId = printOffset(offset);
-                    return fixedOffsetZone(convId, offset);
-                }
+                return fixedOffsetZone(offset);
             }
         }
         throw new IllegalArgumentException("The datetime zone id '" + id + "' is not recognised");
@@ -377,16 +379,30 @@ public abstract class DateTimeZone implements Serializable {
     //-----------------------------------------------------------------------
     /**
      * Gets the zone using a fixed offset amount.
+     * <p>
+     * Zones with an offset of a whole number of minutes are cached, so that
+     * the same instance is returned for equal offsets. This keeps lookups
+     * keyed by the zone, such as those in the chronology caches, efficient.
      * 
-     * @param id  the zone id
      * @param offset  the offset in millis
      * @return the zone
      */
-    private static DateTimeZone fixedOffsetZone(String id, int offset) {
+    private static DateTimeZone fixedOffsetZone(int offset) {
         if (offset == 0) {
             return DateTimeZone.UTC;
         }
-        return new FixedDateTimeZone(id, null, offset, offset);
+        if (offset % DateTimeConstants.MILLIS_PER_MINUTE != 0) {
+            return new FixedDateTimeZone(printOffset(offset), null, offset, offset);
+        }
+        int index = offset / DateTimeConstants.MILLIS_PER_MINUTE + MAX_MINUTES;
+        DateTimeZone zone = cFixedOffsetZones.get(index);
+        if (zone == null) {
+            zone = new FixedDateTimeZone(printOffset(offset), null, offset, offset);
+            if (!cFixedOffsetZones.compareAndSet(index, null, zone)) {
+                zone = cFixedOffsetZones.get(index);
+            }
+        }
+        return zone;
     }
 
     /**
@@ -465,18 +481,20 @@ public abstract class DateTimeZone implements Serializable {
     /**
      * Gets the default zone provider.
      * <p>
-     * This tries four approaches to loading data:
+     * This tries five approaches to loading data:
      * <ol>
      * <li>loads the provider identifier by the system property
      *   <code>org.joda.time.DateTimeZone.Provider</code>.
      * <li>load <code>ZoneInfoProvider</code> using the data in the filing system folder
      *   pointed to by system property <code>org.joda.time.DateTimeZone.Folder</code>.
+     * <li>load <code>MappedZoneInfoProvider</code> using the single database file
+     *   pointed to by system property <code>org.joda.time.DateTimeZone.DatabaseFile</code>.
      * <li>loads <code>ZoneInfoProvider</code> using the data in the classpath location
      *   <code>org/joda/time/tz/data</code>.
      * <li>loads <code>UTCProvider</code>.
      * </ol>
      * <p>
-     * Unless you override the standard behaviour, the default if the third approach.
+     * Unless you override the standard behaviour, the default if the fourth approach.
      * 
      * @return the default name provider
      */
@@ -510,13 +528,27 @@ public abstract class DateTimeZone implements Serializable {
             // ignored
         }
         // approach 3
+        try {
+            String databaseFile = System.getProperty("org.joda.time.DateTimeZone.DatabaseFile");
+            if (databaseFile != null) {
+                try {
+                    Provider provider = new MappedZoneInfoProvider(new File(databaseFile));
+                    return validateProvider(provider);
+                } catch (Exception ex) {
+                    throw new RuntimeException(ex);
+                }
+            }
+        } catch (SecurityException ex) {
+            // ignored
+        }
+        // approach 4
         try {
             Provider provider = new ZoneInfoProvider("org/joda/time/tz/data");
             return validateProvider(provider);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
-        // approach 4
+        // approach 5
         return new UTCProvider();
     }
 
@@ -1034,6 +1066,147 @@ public abstract class DateTimeZone implements Serializable {
         return newZone.convertLocalToUTC(instantLocal, false, oldInstant);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the millisecond offsets to add to UTC to get local time for an
+     * array of instants.
+     * <p>
+     * The result is the same as calling {@link #getOffset(long)} for each instant.
+     * Each offset found is reused until the next transition, thus instants that
+     * are sorted in ascending order are processed most efficiently.
+     *
+     * @param instants  the millisecond instants to get the offsets for, not null
+     * @param offsets  the array to store the offsets in, at least as long as the instants, not null
+     * @throws IllegalArgumentException if the offsets array is too short
+     * @since 2.8
+     */
+    public void getOffsets(long[] instants, int[] offsets) {
+        if (instants == null || offsets == null) {
+            throw new IllegalArgumentException("The arrays must not be null");
+        }
+        checkBulkLength(instants.length, offsets.length);
+        long periodStart = Long.MAX_VALUE;
+        long periodEnd = Long.MIN_VALUE;
+        int offset = 0;
+        for (int i = 0; i < instants.length; i++) {
+            long instant = instants[i];
+            if (instant < periodStart || instant >= periodEnd) {
+                offset = getOffset(instant);
+                periodStart = instant;
+                periodEnd = periodEnd(instant);
+            }
+            offsets[i] = offset;
+        }
+    }
+
+    /**
+     * Converts an array of standard UTC instants to local instants with the
+     * same local time.
+     * <p>
+     * The result is the same as calling {@link #convertUTCToLocal(long)} for
+     * each instant. Each offset found is reused until the next transition, thus
+     * instants that are sorted in ascending order are processed most efficiently.
+     * The two arrays may be the same array.
+     *
+     * @param instantsUTC  the UTC instants to convert to local, not null
+     * @param instantsLocal  the array to store the local instants in, at least as long as the input, not null
+     * @throws ArithmeticException if a result overflows a long
+     * @throws IllegalArgumentException if the output array is too short
+     * @since 2.8
+     */
+    public void convertUTCToLocal(long[] instantsUTC, long[] instantsLocal) {
+        if (instantsUTC == null || instantsLocal == null) {
+            throw new IllegalArgumentException("The arrays must not be null");
+        }
+        checkBulkLength(instantsUTC.length, instantsLocal.length);
+        long periodStart = Long.MAX_VALUE;
+        long periodEnd = Long.MIN_VALUE;
+        int offset = 0;
+        for (int i = 0; i < instantsUTC.length; i++) {
+            long instantUTC = instantsUTC[i];
+            if (instantUTC < periodStart || instantUTC >= periodEnd) {
+                offset = getOffset(instantUTC);
+                periodStart = instantUTC;
+                periodEnd = periodEnd(instantUTC);
+            }
+            long instantLocal = instantUTC + offset;
+            // If there is a sign change, but the two values have the same sign...
+            if ((instantUTC ^ instantLocal) < 0 && (instantUTC ^ offset) >= 0) {
+                throw new ArithmeticException("Adding time zone offset caused overflow");
+            }
+            instantsLocal[i] = instantLocal;
+        }
+    }
+
+    /**
+     * Converts an array of local instants to standard UTC instants with the
+     * same local time.
+     * <p>
+     * The result is the same as calling {@link #convertLocalToUTC(long, boolean)}
+     * for each instant. Each offset found is reused while both the local instant
+     * and the resulting UTC instant are in the same period between transitions,
+     * thus instants that are sorted in ascending order are processed most efficiently.
+     * The two arrays may be the same array.
+     *
+     * @param instantsLocal  the local instants to convert to UTC, not null
+     * @param instantsUTC  the array to store the UTC instants in, at least as long as the input, not null
+     * @param strict  whether the conversion should reject non-existent local times
+     * @throws ArithmeticException if a result overflows a long
+     * @throws IllegalInstantException if the zone has no equivalent local time
+     * @throws IllegalArgumentException if the output array is too short
+     * @since 2.8
+     */
+    public void convertLocalToUTC(long[] instantsLocal, long[] instantsUTC, boolean strict) {
+        if (instantsLocal == null || instantsUTC == null) {
+            throw new IllegalArgumentException("The arrays must not be null");
+        }
+        checkBulkLength(instantsLocal.length, instantsUTC.length);
+        long periodStart = Long.MAX_VALUE;
+        long periodEnd = Long.MIN_VALUE;
+        int offset = 0;
+        for (int i = 0; i < instantsLocal.length; i++) {
+            long instantLocal = instantsLocal[i];
+            long instantUTC = instantLocal - offset;
+            if (instantLocal >= periodStart && instantLocal < periodEnd &&
+                    instantUTC >= periodStart && instantUTC < periodEnd) {
+                // the offset is the same at the local and the UTC instant,
+                // so there is no gap or overlap to consider
+                // If there is a sign change, but the two values have different signs...
+                if ((instantLocal ^ instantUTC) < 0 && (instantLocal ^ offset) < 0) {
+                    throw new ArithmeticException("Subtracting time zone offset caused overflow");
+                }
+            } else {
+                instantUTC = convertLocalToUTC(instantLocal, strict);
+                offset = getOffset(instantUTC);
+                periodStart = periodStart(instantUTC);
+                periodEnd = periodEnd(instantUTC);
+            }
+            instantsUTC[i] = instantUTC;
+        }
+    }
+
+    private static void checkBulkLength(int inputLength, int outputLength) {
+        if (outputLength < inputLength) {
+            throw new IllegalArgumentException("The output array is too short: " + outputLength + " < " + inputLength);
+        }
+    }
+
+    /**
+     * Gets the start of the period without transitions containing the instant.
+     */
+    private long periodStart(long instant) {
+        long prev = previousTransition(instant);
+        return (prev == instant ? Long.MIN_VALUE : prev + 1);
+    }
+
+    /**
+     * Gets the end of the period without transitions containing the instant, exclusive.
+     */
+    private long periodEnd(long instant) {
+        long next = nextTransition(instant);
+        return (next == instant ? Long.MAX_VALUE : next);
+    }
+
 //    //-----------------------------------------------------------------------
 //    /**
 //     * Checks if the given {@link LocalDateTime} is within an overlap.
@@ -1220,6 +1393,25 @@ public abstract class DateTimeZone implements Serializable {
      */
     public abstract long previousTransition(long instant);
 
+    /**
+     * Gets a cursor over the transitions of this zone between two instants.
+     * <p>
+     * The cursor starts at the start instant, with the offsets and name key in
+     * effect at that instant, and steps through each transition before the end
+     * instant. This is more efficient than calling {@link #nextTransition(long)}
+     * and the offset methods repeatedly, as the cursor keeps its position
+     * between steps.
+     *
+     * @param start  the start instant, inclusive
+     * @param end  the end instant, exclusive
+     * @return the cursor, not null
+     * @throws IllegalArgumentException if the end is before the start
+     * @since 2.8
+     */
+    public TransitionCursor transitionCursor(long start, long end) {
+        return new TransitionCursor(this, start, end);
+    }
+
     // Basic methods
     //--------------------------------------------------------------------
 
@@ -18,9 +18,9 @@ package org.joda.time;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.joda.time.field.FieldUtils;
 
@@ -52,9 +52,6 @@ public class PeriodType implements Serializable {
     /** Serialization version */
     private static final long serialVersionUID = 2274324892792009998L;
 
-    /** Cache of all the known types. */
-    private static final Map<PeriodType, Object> cTypes = new HashMap<PeriodType, Object>(32);
-
     static int YEAR_INDEX = 0;
     static int MONTH_INDEX = 1;
     static int WEEK_INDEX = 2;
@@ -498,7 +495,7 @@ public class PeriodType implements Serializable {
      * @return the period type
      * @since 1.1
      */
-    public static synchronized PeriodType forFields(DurationFieldType[] types) {
+    public static PeriodType forFields(DurationFieldType[] types) {
         if (types == null || types.length == 0) {
             throw new IllegalArgumentException("Types array must not be null or empty");
         }
@@ -507,26 +504,7 @@ public class PeriodType implements Serializable {
                 throw new IllegalArgumentException("Types array must not contain null");
             }
         }
-        Map<PeriodType, Object> cache = cTypes;
-        if (cache.isEmpty()) {
-            cache.put(standard(), standard());
-            cache.put(yearMonthDayTime(), yearMonthDayTime());
-            cache.put(yearMonthDay(), yearMonthDay());
-            cache.put(yearWeekDayTime(), yearWeekDayTime());
-            cache.put(yearWeekDay(), yearWeekDay());
-            cache.put(yearDayTime(), yearDayTime());
-            cache.put(yearDay(), yearDay());
-            cache.put(dayTime(), dayTime());
-            cache.put(time(), time());
-            cache.put(years(), years());
-            cache.put(months(), months());
-            cache.put(weeks(), weeks());
-            cache.put(days(), days());
-            cache.put(hours(), hours());
-            cache.put(minutes(), minutes());
-            cache.put(seconds(), seconds());
-            cache.put(millis(), millis());
-        }
+        ConcurrentMap<PeriodType, Object> cache = TypeCache.TYPES;
         PeriodType inPartType = new PeriodType(null, types, null);
         Object cached = cache.get(inPartType);
         if (cached instanceof PeriodType) {
@@ -562,18 +540,13 @@ public class PeriodType implements Serializable {
             type = type.withMillisRemoved();
         }
         if (list.size() > 0) {
-            cache.put(inPartType, list);
+            cache.putIfAbsent(inPartType, list);
             throw new IllegalArgumentException("PeriodType does not support fields: " + list);
         }
         // recheck cache in case initial array order was wrong
         PeriodType checkPartType = new PeriodType(null, type.iTypes, null);
-        PeriodType checkedType = (PeriodType) cache.get(checkPartType);
-        if (checkedType != null) {
-            cache.put(checkPartType, checkedType);
-            return checkedType;
-        }
-        cache.put(checkPartType, type);
-        return type;
+        PeriodType checkedType = (PeriodType) cache.putIfAbsent(checkPartType, type);
+        return (checkedType != null ? checkedType : type);
     }
 
     //-----------------------------------------------------------------------    
@@ -855,4 +828,25 @@ public class PeriodType implements Serializable {
         return hash;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Cache of all the known types, keyed by a type holding only the field types.
+     * <p>
+     * The standard types are added when the cache is first used, so that they
+     * are always returned in preference to an equal type.
+     */
+    private static final class TypeCache {
+        static final ConcurrentMap<PeriodType, Object> TYPES = new ConcurrentHashMap<PeriodType, Object>(32);
+        static {
+            PeriodType[] types = new PeriodType[] {
+                standard(), yearMonthDayTime(), yearMonthDay(), yearWeekDayTime(), yearWeekDay(),
+                yearDayTime(), yearDay(), dayTime(), time(), years(), months(), weeks(), days(),
+                hours(), minutes(), seconds(), millis(),
+            };
+            for (int i = 0; i < types.length; i++) {
+                TYPES.put(types[i], types[i]);
+            }
+        }
+    }
+
 }
@@ -23,6 +23,7 @@ import org.joda.convert.ToString;
 import org.joda.time.DateTimeFieldType;
 import org.joda.time.DateTimeZone;
 import org.joda.time.ReadableDateTime;
+import org.joda.time.chrono.LocalFieldView;
 import org.joda.time.format.DateTimeFormat;
 
 /**
@@ -249,6 +250,22 @@ public abstract class AbstractDateTime
         return getChronology().millisOfSecond().get(getMillis());
     }
 
+    /**
+     * Gets a view of this datetime that looks up the time zone offset once,
+     * to query several fields.
+     * <p>
+     * The get methods of this class, and the properties of subclasses, look up
+     * the offset each time they are called. The view returns the same values
+     * while converting to local time only once.
+     *
+     * @return a view of the fields of this datetime, not null
+     * @throws ArithmeticException if adding the offset overflows
+     * @since 2.8
+     */
+    public LocalFieldView toLocalFieldView() {
+        return new LocalFieldView(getMillis(), getChronology());
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Get the date time as a <code>java.util.Calendar</code>, assigning
@@ -152,6 +152,27 @@ public abstract class AssembledChronology extends BaseChronology {
             (instant, hourOfDay, minuteOfHour, secondOfMinute, millisOfSecond);
     }
 
+    public void getDateTimeMillis(int[] years, int[] monthsOfYear, int[] daysOfMonth,
+                                  int[] millisOfDay, long[] instants, int count) {
+        Chronology base;
+        if ((base = iBase) != null && (iBaseFlags & 6) == 6) {
+            // Only call specialized implementation if applicable fields are the same.
+            base.getDateTimeMillis(years, monthsOfYear, daysOfMonth, millisOfDay, instants, count);
+            return;
+        }
+        super.getDateTimeMillis(years, monthsOfYear, daysOfMonth, millisOfDay, instants, count);
+    }
+
+    public void getDateTimeFields(long instant, int[] values) {
+        Chronology base;
+        if ((base = iBase) != null && (iBaseFlags & 5) == 5) {
+            // Only call specialized implementation if applicable fields are the same.
+            base.getDateTimeFields(instant, values);
+            return;
+        }
+        super.getDateTimeFields(instant, values);
+    }
+
     public final DurationField millis() {
         return iMillis;
     }
@@ -16,6 +16,7 @@
 package org.joda.time.chrono;
 
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.joda.time.Chronology;
 import org.joda.time.DateTimeConstants;
@@ -123,7 +124,17 @@ abstract class BasicChronology extends AssembledChronology {
     private static final int CACHE_SIZE = 1 << 10;
     private static final int CACHE_MASK = CACHE_SIZE - 1;
 
+    /** 1600-01-01T00:00:00Z, the start of the year table. */
+    private static final long TABLE_START_MILLIS = -11676096000000L;
+    /** 2400-01-01T00:00:00Z, the end of the year table. */
+    private static final long TABLE_END_MILLIS = 13569465600000L;
+
+    /** Year tables by calendar, shared by all instances. */
+    private static final ConcurrentHashMap<Object, YearTable> cYearTables = new ConcurrentHashMap<Object, YearTable>();
+
     private transient final YearInfo[] iYearInfoCache = new YearInfo[CACHE_SIZE];
+    private transient YearTable iYearTable;
+    private transient MonthTable iMonthTable;
 
     private final int iMinDaysInFirstWeek;
 
@@ -181,6 +192,81 @@ abstract class BasicChronology extends AssembledChronology {
             + millisOfSecond;
     }
 
+    public void getDateTimeMillis(int[] years, int[] monthsOfYear, int[] daysOfMonth,
+                                  int[] millisOfDay, long[] instants, int count) {
+        Chronology base;
+        if ((base = getBase()) != null) {
+            base.getDateTimeMillis(years, monthsOfYear, daysOfMonth, millisOfDay, instants, count);
+            return;
+        }
+        checkDateTimeMillis(years, monthsOfYear, daysOfMonth, millisOfDay, instants, count);
+
+        // Every month from 1 to 12 has at least 28 days in all the calendars,
+        // and years before 1 are adjusted by some, so values within these
+        // limits are valid without further checks. Others take the full path.
+        int minYear = Math.max(getMinYear(), 1);
+        int maxYear = getMaxYear();
+        for (int i = 0; i < count; i++) {
+            int year = years[i];
+            int month = monthsOfYear[i];
+            int dayOfMonth = daysOfMonth[i];
+            int millis = (millisOfDay == null ? 0 : millisOfDay[i]);
+            if (year >= minYear && year <= maxYear && month >= 1 && month <= 12 &&
+                    dayOfMonth >= 1 && dayOfMonth <= 28 &&
+                    millis >= 0 && millis < DateTimeConstants.MILLIS_PER_DAY) {
+                instants[i] = getYearMonthDayMillis(year, month, dayOfMonth) + millis;
+            } else {
+                instants[i] = getDateTimeMillis(year, month, dayOfMonth, millis);
+            }
+        }
+    }
+
+    public void getDateTimeFields(long instant, int[] values) {
+        Chronology base;
+        if ((base = getBase()) != null) {
+            base.getDateTimeFields(instant, values);
+            return;
+        }
+        checkDateTimeFields(values);
+
+        // Subclasses may adjust the year field, such as to skip year zero,
+        // but the month and day are always derived from the internal year.
+        int year;
+        int month;
+        int dayOfMonth;
+        MonthTable table = getMonthTable();
+        int monthIndex = (table != null ? table.getMonthIndex(instant) : -1);
+        if (monthIndex >= 0) {
+            year = table.getYear(monthIndex);
+            month = table.getMonthOfYear(monthIndex);
+            dayOfMonth = table.getDayOfMonth(instant, monthIndex);
+        } else {
+            year = getYear(instant);
+            month = getMonthOfYear(instant, year);
+            dayOfMonth = getDayOfMonth(instant, year, month);
+        }
+        DateTimeField field = year();
+        values[0] = (field instanceof BasicYearDateTimeField ? year : field.get(instant));
+        field = monthOfYear();
+        values[1] = (field instanceof BasicMonthOfYearDateTimeField ? month : field.get(instant));
+        field = dayOfMonth();
+        values[2] = (field instanceof BasicDayOfMonthDateTimeField ? dayOfMonth : field.get(instant));
+
+        if (hourOfDay() == cHourOfDayField && minuteOfHour() == cMinuteOfHourField &&
+                secondOfMinute() == cSecondOfMinuteField && millisOfSecond() == cMillisOfSecondField) {
+            int millisOfDay = getMillisOfDay(instant);
+            values[3] = millisOfDay / DateTimeConstants.MILLIS_PER_HOUR;
+            values[4] = (millisOfDay / DateTimeConstants.MILLIS_PER_MINUTE) % 60;
+            values[5] = (millisOfDay / DateTimeConstants.MILLIS_PER_SECOND) % 60;
+            values[6] = millisOfDay % 1000;
+        } else {
+            values[3] = hourOfDay().get(instant);
+            values[4] = minuteOfHour().get(instant);
+            values[5] = secondOfMinute().get(instant);
+            values[6] = millisOfSecond().get(instant);
+        }
+    }
+
     public int getMinimumDaysInFirstWeek() {
         return iMinDaysInFirstWeek;
     }
@@ -365,6 +451,14 @@ abstract class BasicChronology extends AssembledChronology {
      * @return millis from 1970-01-01T00:00:00Z
      */
     long getYearMillis(int year) {
+        YearTable table = iYearTable;
+        if (table == null) {
+            table = iYearTable = getYearTable();
+        }
+        int index = year - table.iMinYear;
+        if (index >= 0 && index < table.iFirstDayMillis.length) {
+            return table.iFirstDayMillis[index];
+        }
         return getYearInfo(year).iFirstDayMillis;
     }
 
@@ -399,6 +493,14 @@ abstract class BasicChronology extends AssembledChronology {
      * @param instant millis from 1970-01-01T00:00:00Z
      */
     int getYear(long instant) {
+        MonthTable table = getMonthTable();
+        if (table != null) {
+            int monthIndex = table.getMonthIndex(instant);
+            if (monthIndex >= 0) {
+                return table.getYear(monthIndex);
+            }
+        }
+
         // Get an initial estimate of the year, and the millis value that
         // represents the start of that year. Then verify estimate and fix if
         // necessary.
@@ -440,6 +542,13 @@ abstract class BasicChronology extends AssembledChronology {
      * @param millis from 1970-01-01T00:00:00Z
      */
     int getMonthOfYear(long millis) {
+        MonthTable table = getMonthTable();
+        if (table != null) {
+            int monthIndex = table.getMonthIndex(millis);
+            if (monthIndex >= 0) {
+                return table.getMonthOfYear(monthIndex);
+            }
+        }
         return getMonthOfYear(millis, getYear(millis));
     }
 
@@ -453,6 +562,13 @@ abstract class BasicChronology extends AssembledChronology {
      * @param millis from 1970-01-01T00:00:00Z
      */
     int getDayOfMonth(long millis) {
+        MonthTable table = getMonthTable();
+        if (table != null) {
+            int monthIndex = table.getMonthIndex(millis);
+            if (monthIndex >= 0) {
+                return table.getDayOfMonth(millis, monthIndex);
+            }
+        }
         int year = getYear(millis);
         int month = getMonthOfYear(millis, year);
         return getDayOfMonth(millis, year, month);
@@ -750,7 +866,57 @@ abstract class BasicChronology extends AssembledChronology {
      */
     abstract long setYear(long instant, int year);
 
+    /**
+     * Gets the key identifying the calendar system, used to share the year
+     * table between instances. Instances with equal keys must calculate the
+     * same start of year millis.
+     * 
+     * @return the key, the class by default
+     */
+    Object getYearTableKey() {
+        return getClass();
+    }
+
+    /**
+     * Checks whether the calendar looks up the month of an instant in a
+     * {@link MonthTable}, which is shared using the year table key.
+     * 
+     * @return true to use a month table, false by default
+     */
+    boolean useMonthTable() {
+        return false;
+    }
+
+    /**
+     * Gets the month table, creating it if necessary.
+     * 
+     * @return the month table, null if not used
+     */
+    MonthTable getMonthTable() {
+        MonthTable table = iMonthTable;
+        if (table == null && useMonthTable()) {
+            table = iMonthTable = MonthTable.forChronology(this);
+        }
+        return table;
+    }
+
     //-----------------------------------------------------------------------
+    // The table holds the start of each year from 1600 to 2400 (Gregorian),
+    // shared by all instances of the same calendar. It is never changed once
+    // created, and the final fields make it safe to publish without locking.
+    private YearTable getYearTable() {
+        Object key = getYearTableKey();
+        YearTable table = cYearTables.get(key);
+        if (table == null) {
+            table = new YearTable(this);
+            YearTable existing = cYearTables.putIfAbsent(key, table);
+            if (existing != null) {
+                table = existing;
+            }
+        }
+        return table;
+    }
+
     // Although accessed by multiple threads, this method doesn't need to be synchronized.
     private YearInfo getYearInfo(int year) {
         YearInfo info = iYearInfoCache[year & CACHE_MASK];
@@ -782,6 +948,25 @@ abstract class BasicChronology extends AssembledChronology {
         }
     }
 
+    private static class YearTable {
+        public final int iMinYear;
+        public final long[] iFirstDayMillis;
+
+        YearTable(BasicChronology chrono) {
+            // The estimates may be a year out, so include one more year at each end.
+            long unitMillis = chrono.getAverageMillisPerYearDividedByTwo();
+            long epochMillis = chrono.getApproxMillisAtEpochDividedByTwo();
+            int minYear = (int) (((TABLE_START_MILLIS >> 1) + epochMillis) / unitMillis) - 1;
+            int maxYear = (int) (((TABLE_END_MILLIS >> 1) + epochMillis) / unitMillis) + 1;
+            long[] firstDayMillis = new long[maxYear - minYear + 1];
+            for (int i = 0; i < firstDayMillis.length; i++) {
+                firstDayMillis[i] = chrono.calculateFirstDayOfYearMillis(minYear + i);
+            }
+            iMinYear = minYear;
+            iFirstDayMillis = firstDayMillis;
+        }
+    }
+
     private static class YearInfo {
         public final int iYear;
         public final long iFirstDayMillis;
@@ -205,6 +205,12 @@ final class BasicWeekyearDateTimeField extends ImpreciseDateTimeField {
         return workInstant;
     }
 
+    public boolean isValidValueForSet(long instant, int year) {
+        // matches the bounds check in set, which checks the absolute value
+        int value = Math.abs(year);
+        return value >= iChronology.getMinYear() && value <= iChronology.getMaxYear();
+    }
+
     public DurationField getRangeDurationField() {
         return null;
     }
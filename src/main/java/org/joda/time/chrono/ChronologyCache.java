@@ -0,0 +1,81 @@
+/*
+ *  Copyright 2001-2015 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.chrono;
+
+import java.lang.ref.SoftReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.joda.time.Chronology;
+
+/**
+ * Bounded cache of chronologies built by wrapping another chronology.
+ * <p>
+ * Each chronology is held in a slot chosen by the hash of the values it was
+ * built from, replacing any chronology already in that slot. The caller checks
+ * that a chronology found in a slot was built from the same values.
+ * Chronologies are held by soft references, and nothing else is held, thus the
+ * cache never prevents a chronology, base or zone from being garbage collected.
+ * <p>
+ * ChronologyCache is thread-safe.
+ *
+ * @since 2.8
+ */
+final class ChronologyCache<C extends Chronology> {
+
+    /** The slots. */
+    private final AtomicReferenceArray<SoftReference<C>> iSlots;
+    /** The mask to obtain a slot index from a hash. */
+    private final int iMask;
+
+    /**
+     * Constructor.
+     *
+     * @param size  the number of slots, a power of two
+     */
+    ChronologyCache(int size) {
+        super();
+        iSlots = new AtomicReferenceArray<SoftReference<C>>(size);
+        iMask = size - 1;
+    }
+
+    /**
+     * Gets the chronology in the slot for a hash.
+     *
+     * @param hash  the hash of the values the chronology is built from
+     * @return the chronology, which may have been built from other values, null if none
+     */
+    C get(int hash) {
+        SoftReference<C> ref = iSlots.get(index(hash));
+        return (ref == null ? null : ref.get());
+    }
+
+    /**
+     * Puts a chronology in the slot for a hash.
+     *
+     * @param hash  the hash of the values the chronology is built from
+     * @param chrono  the chronology, not null
+     */
+    void put(int hash, C chrono) {
+        iSlots.set(index(hash), new SoftReference<C>(chrono));
+    }
+
+    private int index(int hash) {
+        // spread the high bits, as zone hash codes differ mostly in those
+        hash ^= (hash >>> 16);
+        return hash & iMask;
+    }
+
+}
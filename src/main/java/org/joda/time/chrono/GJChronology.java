@@ -380,6 +380,29 @@ public final class GJChronology extends AssembledChronology {
         return instant;
     }
 
+    /**
+     * Gets the values of the date and time fields of an instant.
+     * <p>
+     * Each instant is wholly before or after the cutover, so the values are
+     * obtained from the Julian or Gregorian chronology in one call, rather
+     * than checking the cutover for each field.
+     *
+     * @param instant  the instant to query
+     * @param values  the array to receive the values, at least seven long
+     * @throws IllegalArgumentException if the array is null or too short
+     * @since 2.8
+     */
+    public void getDateTimeFields(long instant, int[] values) {
+        Chronology base;
+        if ((base = getBase()) != null) {
+            base.getDateTimeFields(instant, values);
+        } else if (instant >= iCutoverMillis) {
+            iGregorianChronology.getDateTimeFields(instant, values);
+        } else {
+            iJulianChronology.getDateTimeFields(instant, values);
+        }
+    }
+
     /**
      * Gets the cutover instant between Gregorian and Julian chronologies.
      * @return the cutover instant
@@ -753,6 +776,11 @@ public final class GJChronology extends AssembledChronology {
             return instant;
         }
 
+        public boolean isValidValueForSet(long instant, int value) {
+            // set throws if the field of the side of the cutover it starts on does
+            return (instant >= iCutover ? iGregorianField : iJulianField).isValidValueForSet(instant, value);
+        }
+
         public long set(long instant, String text, Locale locale) {
             if (instant >= iCutover) {
                 instant = iGregorianField.set(instant, text, locale);
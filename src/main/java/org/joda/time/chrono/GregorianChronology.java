@@ -54,6 +54,18 @@ public final class GregorianChronology extends BasicGJChronology {
 
     private static final int DAYS_0000_TO_1970 = 719527;
 
+    /** The days from 0000-03-01 to 1970-01-01. */
+    private static final int DAYS_0000_03_01_TO_1970 = 719468;
+
+    /** The days in a 400 year cycle. */
+    private static final int DAYS_PER_CYCLE = 146097;
+
+    /** The 400 year cycles added to keep day counts positive, larger than the range of long millis. */
+    private static final long SHIFT_CYCLES = 800000L;
+
+    /** The days in the shift, as units of 1024 millis. */
+    private static final long SHIFT_UNITS = SHIFT_CYCLES * DAYS_PER_CYCLE * 84375L;
+
     /** The lowest year that can be fully supported. */
     private static final int MIN_YEAR = -292275054;
 
@@ -222,6 +234,76 @@ public final class GregorianChronology extends BasicGJChronology {
         return (year * 365L + (leapYears - DAYS_0000_TO_1970)) * DateTimeConstants.MILLIS_PER_DAY;
     }
 
+    //-----------------------------------------------------------------------
+    // The date calculations below avoid the year info cache, so that every
+    // year is equally fast. The day count starts from 0000-03-01, placing the
+    // leap day at the end of each year, and is shifted to be positive. Each
+    // value then follows from divisions by constants, which compile to
+    // multiplications and shifts, as described by Neri and Schneider in
+    // "Euclidean affine functions and their application to calendar algorithms".
+
+    long getYearMillis(int year) {
+        return calculateFirstDayOfYearMillis(year);
+    }
+
+    int getYear(long instant) {
+        long scaledDays = scaledDays(instant);
+        long centuries = scaledDays / DAYS_PER_CYCLE;
+        long product = yearProduct(scaledDays, centuries);
+        int yearOfCentury = (int) (product >>> 32);
+        return (int) (centuries * 100 - SHIFT_CYCLES * 400) + yearOfCentury +
+            (marchDayOfYear(product) >= 306 ? 1 : 0);
+    }
+
+    int getMonthOfYear(long millis) {
+        long scaledDays = scaledDays(millis);
+        int marchDayOfYear = marchDayOfYear(yearProduct(scaledDays, scaledDays / DAYS_PER_CYCLE));
+        int month = (2141 * marchDayOfYear + 197913) >>> 16;
+        return (marchDayOfYear >= 306 ? month - 12 : month);
+    }
+
+    int getDayOfMonth(long millis) {
+        long scaledDays = scaledDays(millis);
+        int marchDayOfYear = marchDayOfYear(yearProduct(scaledDays, scaledDays / DAYS_PER_CYCLE));
+        return ((2141 * marchDayOfYear + 197913) & 0xFFFF) / 2141 + 1;
+    }
+
+    /**
+     * Gets the shifted day count from 0000-03-01, multiplied by four plus three.
+     * Dividing by the days in a 400 year cycle gives the centuries.
+     * 
+     * @param instant  millis from 1970-01-01T00:00:00Z
+     * @return the scaled day count, positive
+     */
+    private static long scaledDays(long instant) {
+        // Shifting first avoids overflow, as there are 1024 * 84375 millis per day.
+        long days = ((instant >> 10) + SHIFT_UNITS) / 84375 + DAYS_0000_03_01_TO_1970;
+        return 4 * days + 3;
+    }
+
+    /**
+     * Gets the product holding the year of the century in the high 32 bits
+     * and the scaled day of the year in the low 32 bits.
+     * 
+     * @param scaledDays  the scaled day count
+     * @param centuries  the scaled day count divided by the days in a 400 year cycle
+     * @return the product
+     */
+    private static long yearProduct(long scaledDays, long centuries) {
+        int dayOfCentury = (int) (scaledDays - centuries * DAYS_PER_CYCLE) >>> 2;
+        return 2939745L * (4 * dayOfCentury + 3);
+    }
+
+    /**
+     * Gets the day of the year starting in March, from 0 to 365.
+     * 
+     * @param product  the product from {@link #yearProduct(long, long)}
+     * @return the day of the year
+     */
+    private static int marchDayOfYear(long product) {
+        return (int) ((product & 0xFFFFFFFFL) / 11758980L);
+    }
+
     int getMinYear() {
         return MIN_YEAR;
     }
@@ -312,6 +312,12 @@ public final class IslamicChronology extends BasicChronology {
 
     //-----------------------------------------------------------------------
     int getYear(long instant) {
+        MonthTable table = getMonthTable();
+        int monthIndex = table.getMonthIndex(instant);
+        if (monthIndex >= 0) {
+            return table.getYear(monthIndex);
+        }
+
         long millisIslamic = instant - MILLIS_YEAR_1;
         long cycles = millisIslamic / MILLIS_PER_CYCLE;
         long cycleRemainder = millisIslamic % MILLIS_PER_CYCLE;
@@ -472,6 +478,15 @@ public final class IslamicChronology extends BasicChronology {
         return millis;
     }
 
+    boolean useMonthTable() {
+        return true;
+    }
+
+    Object getYearTableKey() {
+        // the start of each year depends on the leap year pattern
+        return iLeapYears;
+    }
+
     //-----------------------------------------------------------------------
     int getMinYear() {
         return 1; //MIN_YEAR;
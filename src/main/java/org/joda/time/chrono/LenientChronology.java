@@ -35,8 +35,14 @@ public final class LenientChronology extends AssembledChronology {
     /** Serialization lock */
     private static final long serialVersionUID = -3148237568046877177L;
 
+    /** Cache of chronologies by base. */
+    private static final ChronologyCache<LenientChronology> cCache = new ChronologyCache<LenientChronology>(64);
+
     /**
      * Create a LenientChronology for any chronology.
+     * <p>
+     * Instances are cached by base chronology, so that repeated calls,
+     * including those from withZone, do not assemble the fields again.
      *
      * @param base the chronology to wrap
      * @throws IllegalArgumentException if chronology is null
@@ -45,7 +51,13 @@ public final class LenientChronology extends AssembledChronology {
         if (base == null) {
             throw new IllegalArgumentException("Must supply a chronology");
         }
-        return new LenientChronology(base);
+        int hash = base.hashCode();
+        LenientChronology chrono = cCache.get(hash);
+        if (chrono == null || !chrono.getBase().equals(base)) {
+            chrono = new LenientChronology(base);
+            cCache.put(hash, chrono);
+        }
+        return chrono;
     }
 
     private transient Chronology iWithUTC;
@@ -51,10 +51,16 @@ public final class LimitChronology extends AssembledChronology {
     /** Serialization lock */
     private static final long serialVersionUID = 7670866536893052522L;
 
+    /** Cache of chronologies by base and limits. */
+    private static final ChronologyCache<LimitChronology> cCache = new ChronologyCache<LimitChronology>(64);
+
     /**
      * Wraps another chronology, with datetime limits. When withUTC or
      * withZone is called, the returned LimitChronology instance has
      * the same limits, except they are time zone adjusted.
+     * <p>
+     * Instances are cached by base chronology and limits, so that repeated
+     * calls, including those from withZone, do not assemble the fields again.
      *
      * @param base  base chronology to wrap
      * @param lowerLimit  inclusive lower limit, or null if none
@@ -78,7 +84,16 @@ public final class LimitChronology extends AssembledChronology {
             }
         }
 
-        return new LimitChronology(base, (DateTime)lowerLimit, (DateTime)upperLimit);
+        int hash = base.hashCode() * 7 +
+            (lowerLimit != null ? lowerLimit.hashCode() : 0) + (upperLimit != null ? upperLimit.hashCode() : 0);
+        LimitChronology chrono = cCache.get(hash);
+        if (chrono == null || !chrono.getBase().equals(base) ||
+                !FieldUtils.equals(lowerLimit, chrono.getLowerLimit()) ||
+                !FieldUtils.equals(upperLimit, chrono.getUpperLimit())) {
+            chrono = new LimitChronology(base, (DateTime)lowerLimit, (DateTime)upperLimit);
+            cCache.put(hash, chrono);
+        }
+        return chrono;
     }
 
     final DateTime iLowerLimit;
@@ -203,6 +218,20 @@ public final class LimitChronology extends AssembledChronology {
         return instant;
     }
 
+    public void getDateTimeMillis(int[] years, int[] monthsOfYear, int[] daysOfMonth,
+                                  int[] millisOfDay, long[] instants, int count) {
+        getBase().getDateTimeMillis(years, monthsOfYear, daysOfMonth, millisOfDay, instants, count);
+        for (int i = 0; i < count; i++) {
+            checkLimits(instants[i], "resulting");
+        }
+    }
+
+    public void getDateTimeFields(long instant, int[] values) {
+        // Check once, rather than in each limited field.
+        checkLimits(instant, null);
+        getBase().getDateTimeFields(instant, values);
+    }
+
     protected void assemble(Fields fields) {
         // Keep a local cache of converted fields so as not to create redundant
         // objects.
@@ -513,6 +542,17 @@ public final class LimitChronology extends AssembledChronology {
             return result;
         }
         
+        public boolean isValidValueForSet(long instant, int value) {
+            DateTime limit;
+            if ((limit = iLowerLimit) != null && instant < limit.getMillis()) {
+                return false;
+            }
+            if ((limit = iUpperLimit) != null && instant >= limit.getMillis()) {
+                return false;
+            }
+            return getWrappedField().isValidValueForSet(instant, value);
+        }
+
         public long set(long instant, String text, Locale locale) {
             checkLimits(instant, null);
             long result = getWrappedField().set(instant, text, locale);
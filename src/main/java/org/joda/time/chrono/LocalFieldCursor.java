@@ -0,0 +1,362 @@
+/*
+ *  Copyright 2001-2015 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.chrono;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeConstants;
+import org.joda.time.DateTimeUtils;
+import org.joda.time.DateTimeZone;
+
+/**
+ * Cursor converting a sequence of instants to local date and time fields.
+ * <p>
+ * The cursor is intended for instants in ascending order, such as a time series:
+ * <pre>
+ * LocalFieldCursor cursor = new LocalFieldCursor(chrono);
+ * for (int i = 0; i &lt; instants.length; i++) {
+ *   cursor.setInstant(instants[i]);
+ *   record(cursor.getYear(), cursor.getMonthOfYear(), cursor.getDayOfMonth(), cursor.getHourOfDay());
+ * }
+ * </pre>
+ * The cursor keeps the offset until the next time zone transition, and the
+ * date fields until the end of the local day. Moving to an instant within both
+ * only calculates the time of day. Any order of instants is supported, but
+ * moving backwards always calculates the offset and fields again.
+ * <p>
+ * Days are only kept for the ISO, Gregorian, Julian, GJ, Buddhist, Coptic,
+ * Ethiopic and Islamic chronologies, including those limited at midnight UTC,
+ * as other chronologies may alter the fields or check limits within a day.
+ * The fields of other chronologies are calculated on each move.
+ * <p>
+ * LocalFieldCursor is mutable and not thread-safe.
+ *
+ * @since 2.8
+ */
+public class LocalFieldCursor {
+
+    /** The chronology. */
+    private final Chronology iChronology;
+    /** The UTC chronology, which calculates the fields from local millis. */
+    private final Chronology iLocalChronology;
+    /** The zone. */
+    private final DateTimeZone iZone;
+    /** Whether the date fields can be kept for a whole day. */
+    private final boolean iKeepDays;
+    /** The Gregorian cutover as local millis, if the dates change in the middle of a day. */
+    private final long iCutoverMillis;
+    /** The fields. */
+    private final int[] iValues = new int[7];
+
+    /** The current instant. */
+    private long iInstant;
+    /** The current local millis. */
+    private long iLocalMillis;
+    /** The offset at the current instant. */
+    private int iOffset;
+    /** The first instant of the offset, inclusive. */
+    private long iOffsetStart;
+    /** The last instant of the offset, exclusive. */
+    private long iOffsetEnd;
+    /** The local millis of midnight at the start of the day. */
+    private long iMidnight;
+    /** The first local millis of the day, inclusive. */
+    private long iDayStart;
+    /** The last local millis of the day, exclusive. */
+    private long iDayEnd;
+
+    /**
+     * Creates a cursor.
+     * <p>
+     * The fields are zero until {@link #setInstant(long)} is called.
+     *
+     * @param chrono  the chronology to use, null means ISO in the default zone
+     */
+    public LocalFieldCursor(Chronology chrono) {
+        super();
+        chrono = DateTimeUtils.getChronology(chrono);
+        iChronology = chrono;
+        iLocalChronology = chrono.withUTC();
+        iZone = chrono.getZone();
+        Chronology calendar = getCalendar(iLocalChronology);
+        iKeepDays = (calendar != null);
+        if (calendar instanceof GJChronology) {
+            iCutoverMillis = ((GJChronology) calendar).getGregorianCutover().getMillis();
+        } else {
+            iCutoverMillis = Long.MAX_VALUE;
+        }
+        iOffsetStart = Long.MAX_VALUE;
+        iOffsetEnd = Long.MIN_VALUE;
+        iDayStart = Long.MAX_VALUE;
+        iDayEnd = Long.MIN_VALUE;
+    }
+
+    /**
+     * Finds the calendar that a UTC chronology is assembled from, if its fields only
+     * change at midnight or at a Gregorian cutover.
+     * <p>
+     * ISO and Buddhist are assembled from Gregorian and GJ. ISO only alters the
+     * century fields, which are not calculated here. Buddhist adjusts the year,
+     * but by an offset and era that are constant within a day, so the days can
+     * still be kept. A limit does not alter the fields, and if at midnight,
+     * applies to whole days.
+     *
+     * @param chrono  the UTC chronology
+     * @return the calendar, null if the fields must be calculated on each move
+     */
+    private static Chronology getCalendar(Chronology chrono) {
+        if (chrono instanceof BasicChronology || chrono instanceof GJChronology) {
+            return chrono;
+        }
+        if (chrono instanceof ISOChronology || chrono instanceof BuddhistChronology) {
+            return getCalendar(((AssembledChronology) chrono).getBase());
+        }
+        if (chrono instanceof LimitChronology) {
+            LimitChronology limit = (LimitChronology) chrono;
+            if (isMidnight(limit.getLowerLimit()) && isMidnight(limit.getUpperLimit())) {
+                return getCalendar(limit.getBase());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether a limit is at midnight in UTC, or is absent.
+     *
+     * @param limit  the limit, null if none
+     * @return true if the limit does not split a day
+     */
+    private static boolean isMidnight(DateTime limit) {
+        return limit == null || limit.getMillis() % DateTimeConstants.MILLIS_PER_DAY == 0;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Moves the cursor to an instant.
+     * <p>
+     * This is efficient when the instant is after the current instant
+     * and on the same local day.
+     *
+     * @param instant  the instant, as millis from 1970-01-01T00:00:00Z
+     * @throws IllegalArgumentException if the chronology rejects the instant
+     * @throws ArithmeticException if adding the offset overflows
+     */
+    public void setInstant(long instant) {
+        if (instant < iOffsetStart || instant >= iOffsetEnd) {
+            updateOffset(instant);
+        }
+        int offset = iOffset;
+        long localMillis = instant + offset;
+        // If there is a sign change, but the two values have the same sign...
+        if ((instant ^ localMillis) < 0 && (instant ^ offset) >= 0) {
+            throw new ArithmeticException("Adding time zone offset caused overflow");
+        }
+        int[] values = iValues;
+        if (localMillis >= iDayStart && localMillis < iDayEnd) {
+            int millisOfDay = (int) (localMillis - iMidnight);
+            values[3] = millisOfDay / DateTimeConstants.MILLIS_PER_HOUR;
+            values[4] = (millisOfDay / DateTimeConstants.MILLIS_PER_MINUTE) % 60;
+            values[5] = (millisOfDay / DateTimeConstants.MILLIS_PER_SECOND) % 60;
+            values[6] = millisOfDay % DateTimeConstants.MILLIS_PER_SECOND;
+        } else {
+            updateDay(localMillis);
+        }
+        iInstant = instant;
+        iLocalMillis = localMillis;
+    }
+
+    /**
+     * Calculates the offset, and the range of instants it applies to.
+     *
+     * @param instant  the instant
+     */
+    private void updateOffset(long instant) {
+        DateTimeZone zone = iZone;
+        iOffset = zone.getOffset(instant);
+        if (zone.isFixed()) {
+            iOffsetStart = Long.MIN_VALUE;
+            iOffsetEnd = Long.MAX_VALUE;
+        } else {
+            long next = zone.nextTransition(instant);
+            iOffsetStart = instant;
+            iOffsetEnd = (next > instant ? next : Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Calculates the fields, and the range of local millis the date applies to.
+     *
+     * @param localMillis  the local millis
+     */
+    private void updateDay(long localMillis) {
+        // clear the range first, in case the chronology throws
+        iDayStart = Long.MAX_VALUE;
+        iDayEnd = Long.MIN_VALUE;
+        iLocalChronology.getDateTimeFields(localMillis, iValues);
+        if (iKeepDays) {
+            long millisOfDay = localMillis % DateTimeConstants.MILLIS_PER_DAY;
+            if (millisOfDay < 0) {
+                millisOfDay += DateTimeConstants.MILLIS_PER_DAY;
+            }
+            long start = localMillis - millisOfDay;
+            iMidnight = start;
+            long end = start + DateTimeConstants.MILLIS_PER_DAY;
+            if (end < start) {
+                end = Long.MAX_VALUE;
+            }
+            if (localMillis < iCutoverMillis && end > iCutoverMillis) {
+                end = iCutoverMillis;
+            } else if (localMillis >= iCutoverMillis && start < iCutoverMillis) {
+                start = iCutoverMillis;
+            }
+            iDayStart = start;
+            iDayEnd = end;
+        }
+    }
+
+    /**
+     * Checks whether the date fields are kept until the end of the local day.
+     *
+     * @return true if moving within a day only calculates the time of day
+     */
+    boolean isKeepingDays() {
+        return iKeepDays;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the chronology.
+     *
+     * @return the chronology, not null
+     */
+    public Chronology getChronology() {
+        return iChronology;
+    }
+
+    /**
+     * Gets the current instant.
+     *
+     * @return the instant, as millis from 1970-01-01T00:00:00Z
+     */
+    public long getInstant() {
+        return iInstant;
+    }
+
+    /**
+     * Gets the offset at the current instant.
+     *
+     * @return the millisecond offset added to the instant to get local millis
+     */
+    public int getOffset() {
+        return iOffset;
+    }
+
+    /**
+     * Gets the local millis of the current instant.
+     *
+     * @return the local millis
+     */
+    public long getLocalMillis() {
+        return iLocalMillis;
+    }
+
+    /**
+     * Gets the year.
+     *
+     * @return the year
+     */
+    public int getYear() {
+        return iValues[0];
+    }
+
+    /**
+     * Gets the month of year.
+     *
+     * @return the month of year
+     */
+    public int getMonthOfYear() {
+        return iValues[1];
+    }
+
+    /**
+     * Gets the day of month.
+     *
+     * @return the day of month
+     */
+    public int getDayOfMonth() {
+        return iValues[2];
+    }
+
+    /**
+     * Gets the hour of day.
+     *
+     * @return the hour of day
+     */
+    public int getHourOfDay() {
+        return iValues[3];
+    }
+
+    /**
+     * Gets the minute of hour.
+     *
+     * @return the minute of hour
+     */
+    public int getMinuteOfHour() {
+        return iValues[4];
+    }
+
+    /**
+     * Gets the second of minute.
+     *
+     * @return the second of minute
+     */
+    public int getSecondOfMinute() {
+        return iValues[5];
+    }
+
+    /**
+     * Gets the millis of second.
+     *
+     * @return the millis of second
+     */
+    public int getMillisOfSecond() {
+        return iValues[6];
+    }
+
+    /**
+     * Copies the fields into an array, in the order used by
+     * {@link Chronology#getDateTimeFields(long, int[])}.
+     *
+     * @param values  the array to fill, at least seven in length
+     * @throws IllegalArgumentException if the array is null or too short
+     */
+    public void getDateTimeFields(int[] values) {
+        if (values == null || values.length < 7) {
+            throw new IllegalArgumentException("The values array must have a length of at least 7");
+        }
+        System.arraycopy(iValues, 0, values, 0, 7);
+    }
+
+    /**
+     * Gets a debugging string.
+     *
+     * @return the debugging string
+     */
+    public String toString() {
+        return "LocalFieldCursor[" + iChronology + "," + iInstant + "]";
+    }
+
+}
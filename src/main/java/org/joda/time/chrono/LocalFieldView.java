@@ -0,0 +1,241 @@
+/*
+ *  Copyright 2001-2015 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.chrono;
+
+import java.util.Locale;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTimeField;
+import org.joda.time.DateTimeFieldType;
+import org.joda.time.DateTimeUtils;
+import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.ZonedChronology.ZonedDateTimeField;
+
+/**
+ * View of an instant that converts it to local time once, to query several fields.
+ * <p>
+ * The fields of a chronology with a time zone each convert the instant to local
+ * time when queried, so reading five properties of a DateTime looks up the offset
+ * five times. The view looks up the offset when created, and passes the local time
+ * to each field:
+ * <pre>
+ * LocalFieldView view = dateTime.toLocalFieldView();
+ * int year = view.get(DateTimeFieldType.year());
+ * String month = view.getAsText(DateTimeFieldType.monthOfYear(), Locale.ENGLISH);
+ * long startOfDay = view.roundFloor(DateTimeFieldType.dayOfMonth());
+ * </pre>
+ * Each method returns the same result as the field of the chronology queried with
+ * the instant. Fields that the zone does not convert directly, such as those of a
+ * {@link LimitChronology}, are queried with the instant, converting it again.
+ * <p>
+ * LocalFieldView is thread-safe and immutable.
+ *
+ * @since 2.8
+ */
+public final class LocalFieldView {
+
+    /** The chronology. */
+    private final Chronology iChronology;
+    /** The zone. */
+    private final DateTimeZone iZone;
+    /** The instant. */
+    private final long iInstant;
+    /** The local millis of the instant. */
+    private final long iLocalMillis;
+
+    /**
+     * Creates a view of an instant.
+     *
+     * @param instant  the instant, as millis from 1970-01-01T00:00:00Z
+     * @param chrono  the chronology to use, null means ISO in the default zone
+     * @throws ArithmeticException if adding the offset overflows
+     */
+    public LocalFieldView(long instant, Chronology chrono) {
+        super();
+        chrono = DateTimeUtils.getChronology(chrono);
+        iChronology = chrono;
+        iZone = chrono.getZone();
+        iInstant = instant;
+        iLocalMillis = iZone.convertUTCToLocal(instant);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the chronology.
+     *
+     * @return the chronology, not null
+     */
+    public Chronology getChronology() {
+        return iChronology;
+    }
+
+    /**
+     * Gets the instant.
+     *
+     * @return the instant, as millis from 1970-01-01T00:00:00Z
+     */
+    public long getInstant() {
+        return iInstant;
+    }
+
+    /**
+     * Gets the local millis of the instant.
+     *
+     * @return the local millis
+     */
+    public long getLocalMillis() {
+        return iLocalMillis;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the value of a field.
+     *
+     * @param type  the field type, not null
+     * @return the value of the field
+     * @throws IllegalArgumentException if the field type is null
+     */
+    public int get(DateTimeFieldType type) {
+        DateTimeField field = getField(type);
+        ZonedDateTimeField zoned = getZonedField(field);
+        if (zoned != null) {
+            return zoned.iField.get(iLocalMillis);
+        }
+        return field.get(iInstant);
+    }
+
+    /**
+     * Gets the value of a field as text.
+     *
+     * @param type  the field type, not null
+     * @param locale  the locale to use, null means default
+     * @return the text value of the field
+     * @throws IllegalArgumentException if the field type is null
+     */
+    public String getAsText(DateTimeFieldType type, Locale locale) {
+        DateTimeField field = getField(type);
+        ZonedDateTimeField zoned = getZonedField(field);
+        if (zoned != null) {
+            return zoned.iField.getAsText(iLocalMillis, locale);
+        }
+        return field.getAsText(iInstant, locale);
+    }
+
+    /**
+     * Gets the value of a field as short text.
+     *
+     * @param type  the field type, not null
+     * @param locale  the locale to use, null means default
+     * @return the short text value of the field
+     * @throws IllegalArgumentException if the field type is null
+     */
+    public String getAsShortText(DateTimeFieldType type, Locale locale) {
+        DateTimeField field = getField(type);
+        ZonedDateTimeField zoned = getZonedField(field);
+        if (zoned != null) {
+            return zoned.iField.getAsShortText(iLocalMillis, locale);
+        }
+        return field.getAsShortText(iInstant, locale);
+    }
+
+    /**
+     * Gets the maximum value of a field at the instant.
+     *
+     * @param type  the field type, not null
+     * @return the maximum value of the field
+     * @throws IllegalArgumentException if the field type is null
+     */
+    public int getMaximumValue(DateTimeFieldType type) {
+        DateTimeField field = getField(type);
+        ZonedDateTimeField zoned = getZonedField(field);
+        if (zoned != null) {
+            return zoned.iField.getMaximumValue(iLocalMillis);
+        }
+        return field.getMaximumValue(iInstant);
+    }
+
+    /**
+     * Rounds the instant to the floor of a field.
+     *
+     * @param type  the field type, not null
+     * @return the rounded instant, as millis from 1970-01-01T00:00:00Z
+     * @throws IllegalArgumentException if the field type is null
+     */
+    public long roundFloor(DateTimeFieldType type) {
+        DateTimeField field = getField(type);
+        ZonedDateTimeField zoned = getZonedField(field);
+        if (zoned != null) {
+            return zoned.roundFloor(iInstant, iLocalMillis);
+        }
+        return field.roundFloor(iInstant);
+    }
+
+    /**
+     * Rounds the instant to the ceiling of a field.
+     *
+     * @param type  the field type, not null
+     * @return the rounded instant, as millis from 1970-01-01T00:00:00Z
+     * @throws IllegalArgumentException if the field type is null
+     */
+    public long roundCeiling(DateTimeFieldType type) {
+        DateTimeField field = getField(type);
+        ZonedDateTimeField zoned = getZonedField(field);
+        if (zoned != null) {
+            return zoned.roundCeiling(iInstant, iLocalMillis);
+        }
+        return field.roundCeiling(iInstant);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the field of the chronology.
+     *
+     * @param type  the field type
+     * @return the field, not null
+     */
+    private DateTimeField getField(DateTimeFieldType type) {
+        if (type == null) {
+            throw new IllegalArgumentException("The DateTimeFieldType must not be null");
+        }
+        return type.getField(iChronology);
+    }
+
+    /**
+     * Gets the field as a zoned field, if it converts using the zone of the view.
+     *
+     * @param field  the field
+     * @return the zoned field, null if the field must be queried with the instant
+     */
+    private ZonedDateTimeField getZonedField(DateTimeField field) {
+        if (field instanceof ZonedDateTimeField) {
+            ZonedDateTimeField zoned = (ZonedDateTimeField) field;
+            if (zoned.iZone == iZone) {
+                return zoned;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets a debugging string.
+     *
+     * @return a debugging string
+     */
+    public String toString() {
+        return "LocalFieldView[" + iInstant + ", " + iChronology + "]";
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ *  Copyright 2001-2015 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.chrono;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.joda.time.DateTimeConstants;
+
+/**
+ * Table of the first day of each month of a calendar, over a range of years.
+ * <p>
+ * The table converts an instant to the year, month and day of month with a
+ * lookup, rather than estimating the year and then calculating the month.
+ * It is used by the Islamic calendar, where finding the year otherwise means
+ * stepping through the leap years of a thirty year cycle.
+ * <p>
+ * The range is from 1600 to 2400 (ISO) by default, set using the system
+ * properties 'org.joda.time.chrono.MonthTable.startYear' and
+ * 'org.joda.time.chrono.MonthTable.endYear'. An empty range disables the table.
+ * <p>
+ * MonthTable is thread-safe and immutable.
+ *
+ * @since 2.8
+ */
+final class MonthTable {
+
+    /** The system property for the first ISO year in the table, inclusive. */
+    static final String START_YEAR_PROPERTY = "org.joda.time.chrono.MonthTable.startYear";
+    /** The system property for the last ISO year in the table, exclusive. */
+    static final String END_YEAR_PROPERTY = "org.joda.time.chrono.MonthTable.endYear";
+
+    /** The days in each bucket of the month index, as a shift. */
+    private static final int BUCKET_SHIFT = 4;
+
+    /** The start of the range, inclusive. */
+    private static final long START_MILLIS;
+    /** The end of the range, exclusive. */
+    private static final long END_MILLIS;
+    static {
+        int startYear = readYear(START_YEAR_PROPERTY, 1600);
+        int endYear = readYear(END_YEAR_PROPERTY, 2400);
+        GregorianChronology iso = GregorianChronology.getInstanceUTC();
+        START_MILLIS = iso.getYearMillis(startYear);
+        END_MILLIS = Math.max(iso.getYearMillis(endYear), START_MILLIS);
+    }
+
+    /** Tables by calendar, shared by all instances. */
+    private static final ConcurrentHashMap<Object, MonthTable> cTables = new ConcurrentHashMap<Object, MonthTable>();
+
+    /**
+     * Gets the table for a chronology, creating it if necessary.
+     *
+     * @param chrono  the chronology, not null
+     * @return the table, not null
+     */
+    static MonthTable forChronology(BasicChronology chrono) {
+        Object key = chrono.getYearTableKey();
+        MonthTable table = cTables.get(key);
+        if (table == null) {
+            table = new MonthTable(chrono);
+            MonthTable existing = cTables.putIfAbsent(key, table);
+            if (existing != null) {
+                table = existing;
+            }
+        }
+        return table;
+    }
+
+    private static int readYear(String property, int defaultYear) {
+        try {
+            String str = System.getProperty(property);
+            if (str != null) {
+                return Integer.parseInt(str.trim());
+            }
+        } catch (SecurityException ex) {
+            // ignore
+        } catch (NumberFormatException ex) {
+            // ignore
+        }
+        return defaultYear;
+    }
+
+    //-----------------------------------------------------------------------
+    /** The first millis in the table, inclusive, the start of a year. */
+    private final long iStartMillis;
+    /** The last millis in the table, exclusive, the start of a year. */
+    private final long iEndMillis;
+    /** The first year in the table. */
+    private final int iMinYear;
+    /** The number of months in each year. */
+    private final int iMonthsPerYear;
+    /** The first day of each month, relative to the start, with one more for the end. */
+    private final int[] iMonthStarts;
+    /** The month at the start of each bucket of days, as an index into iMonthStarts. */
+    private final int[] iBuckets;
+
+    /**
+     * Creates the table.
+     *
+     * @param chrono  the chronology, not null
+     */
+    private MonthTable(BasicChronology chrono) {
+        // The estimates may be a year out, so the table starts at the year
+        // after the estimate for the start, and ends at the year before the
+        // estimate for the end. The range may then be empty.
+        long unitMillis = chrono.getAverageMillisPerYearDividedByTwo();
+        long epochMillis = chrono.getApproxMillisAtEpochDividedByTwo();
+        int minYear = (int) (((START_MILLIS >> 1) + epochMillis) / unitMillis) + 1;
+        int maxYear = (int) (((END_MILLIS >> 1) + epochMillis) / unitMillis) - 1;
+        minYear = Math.max(minYear, chrono.getMinYear());
+        maxYear = Math.min(maxYear, chrono.getMaxYear());
+        int years = Math.max(maxYear - minYear, 0);
+        int monthsPerYear = chrono.getMaxMonth();
+
+        long startMillis = chrono.getYearMillis(minYear);
+        int[] monthStarts = new int[years * monthsPerYear + 1];
+        int index = 0;
+        for (int year = minYear; year < minYear + years; year++) {
+            for (int month = 1; month <= monthsPerYear; month++) {
+                monthStarts[index++] = toDays(chrono.getYearMonthMillis(year, month) - startMillis);
+            }
+        }
+        monthStarts[index] = toDays(chrono.getYearMillis(minYear + years) - startMillis);
+
+        int[] buckets = new int[(monthStarts[index] >> BUCKET_SHIFT) + 1];
+        int month = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            int day = i << BUCKET_SHIFT;
+            while (month < index - 1 && monthStarts[month + 1] <= day) {
+                month++;
+            }
+            buckets[i] = month;
+        }
+
+        iStartMillis = startMillis;
+        iEndMillis = startMillis + monthStarts[index] * (long) DateTimeConstants.MILLIS_PER_DAY;
+        iMinYear = minYear;
+        iMonthsPerYear = monthsPerYear;
+        iMonthStarts = monthStarts;
+        iBuckets = buckets;
+    }
+
+    private static int toDays(long millis) {
+        return (int) (millis / DateTimeConstants.MILLIS_PER_DAY);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the index of the month containing the instant.
+     *
+     * @param instant  millis from 1970-01-01T00:00:00Z
+     * @return the index of the month, negative if outside the table
+     */
+    int getMonthIndex(long instant) {
+        if (instant < iStartMillis || instant >= iEndMillis) {
+            return -1;
+        }
+        int day = (int) ((instant - iStartMillis) / DateTimeConstants.MILLIS_PER_DAY);
+        int[] monthStarts = iMonthStarts;
+        int index = iBuckets[day >> BUCKET_SHIFT];
+        while (monthStarts[index + 1] <= day) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Gets the year of a month.
+     *
+     * @param monthIndex  the index from {@link #getMonthIndex(long)}
+     * @return the year
+     */
+    int getYear(int monthIndex) {
+        return iMinYear + monthIndex / iMonthsPerYear;
+    }
+
+    /**
+     * Gets the month of year of a month.
+     *
+     * @param monthIndex  the index from {@link #getMonthIndex(long)}
+     * @return the month of year
+     */
+    int getMonthOfYear(int monthIndex) {
+        return monthIndex % iMonthsPerYear + 1;
+    }
+
+    /**
+     * Gets the day of month of an instant.
+     *
+     * @param instant  the instant, within the table
+     * @param monthIndex  the index from {@link #getMonthIndex(long)}
+     * @return the day of month
+     */
+    int getDayOfMonth(long instant, int monthIndex) {
+        int day = (int) ((instant - iStartMillis) / DateTimeConstants.MILLIS_PER_DAY);
+        return day - iMonthStarts[monthIndex] + 1;
+    }
+
+}
@@ -35,8 +35,14 @@ public final class StrictChronology extends AssembledChronology {
     /** Serialization lock */
     private static final long serialVersionUID = 6633006628097111960L;
 
+    /** Cache of chronologies by base. */
+    private static final ChronologyCache<StrictChronology> cCache = new ChronologyCache<StrictChronology>(64);
+
     /**
      * Create a StrictChronology for any chronology.
+     * <p>
+     * Instances are cached by base chronology, so that repeated calls,
+     * including those from withZone, do not assemble the fields again.
      *
      * @param base the chronology to wrap
      * @throws IllegalArgumentException if chronology is null
@@ -45,7 +51,13 @@ public final class StrictChronology extends AssembledChronology {
         if (base == null) {
             throw new IllegalArgumentException("Must supply a chronology");
         }
-        return new StrictChronology(base);
+        int hash = base.hashCode();
+        StrictChronology chrono = cCache.get(hash);
+        if (chrono == null || !chrono.getBase().equals(base)) {
+            chrono = new StrictChronology(base);
+            cCache.put(hash, chrono);
+        }
+        return chrono;
     }
 
     private transient Chronology iWithUTC;
@@ -43,9 +43,15 @@ public final class ZonedChronology extends AssembledChronology {
     /** Serialization lock */
     private static final long serialVersionUID = -1079258847191166848L;
 
+    /** Cache of chronologies by base and zone. */
+    private static final ChronologyCache<ZonedChronology> cCache = new ChronologyCache<ZonedChronology>(512);
+
     /**
      * Create a ZonedChronology for any chronology, overriding any time zone it
      * may already have.
+     * <p>
+     * Instances are cached by base chronology and zone, so that repeated calls
+     * do not assemble the fields again.
      *
      * @param base base chronology to wrap
      * @param zone the time zone
@@ -62,7 +68,13 @@ public final class ZonedChronology extends AssembledChronology {
         if (zone == null) {
             throw new IllegalArgumentException("DateTimeZone must not be null");
         }
-        return new ZonedChronology(base, zone);
+        int hash = base.hashCode() * 31 + zone.hashCode();
+        ZonedChronology chrono = cCache.get(hash);
+        if (chrono == null || !chrono.getBase().equals(base) || !chrono.getZone().equals(zone)) {
+            chrono = new ZonedChronology(base, zone);
+            cCache.put(hash, chrono);
+        }
+        return chrono;
     }
 
     static boolean useTimeArithmetic(DurationField field) {
@@ -99,7 +111,7 @@ public final class ZonedChronology extends AssembledChronology {
         if (zone == DateTimeZone.UTC) {
             return getBase();
         }
-        return new ZonedChronology(getBase(), zone);
+        return getInstance(getBase(), zone);
     }
 
     public long getDateTimeMillis(int year, int monthOfYear, int dayOfMonth,
@@ -130,6 +142,56 @@ public final class ZonedChronology extends AssembledChronology {
                            hourOfDay, minuteOfHour, secondOfMinute, millisOfSecond));
     }
 
+    public void getDateTimeMillis(int[] years, int[] monthsOfYear, int[] daysOfMonth,
+                                  int[] millisOfDay, long[] instants, int count) {
+        checkDateTimeMillis(years, monthsOfYear, daysOfMonth, millisOfDay, instants, count);
+        try {
+            getBase().getDateTimeMillis(years, monthsOfYear, daysOfMonth, millisOfDay, instants, count);
+        } catch (IllegalArgumentException ex) {
+            // The instants stored are local, so convert each in turn up to the invalid values.
+            for (int i = 0; i < count; i++) {
+                instants[i] = getDateTimeMillis(years[i], monthsOfYear[i], daysOfMonth[i],
+                                                millisOfDay == null ? 0 : millisOfDay[i]);
+            }
+            throw ex;
+        }
+        DateTimeZone zone = getZone();
+        if (zone.isFixed()) {
+            int offset = zone.getOffset(0L);
+            for (int i = 0; i < count; i++) {
+                instants[i] -= offset;
+            }
+            return;
+        }
+        // Reuse the offset while the instants are over two days from the
+        // transitions either side, as a conversion cannot then reach another
+        // offset. Sorted instants mostly stay within one period.
+        int offset = 0;
+        long safeStart = Long.MAX_VALUE;
+        long safeEnd = Long.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            long localInstant = instants[i];
+            long utcInstant = localInstant - offset;
+            if (utcInstant >= safeStart && utcInstant < safeEnd) {
+                instants[i] = utcInstant;
+                continue;
+            }
+            utcInstant = localToUTC(localInstant);
+            instants[i] = utcInstant;
+            offset = (int) (localInstant - utcInstant);
+            // the previous transition is returned less one millisecond
+            long prev = zone.previousTransition(utcInstant);
+            long next = zone.nextTransition(utcInstant);
+            safeStart = (prev < utcInstant ? prev + 1 + 2 * DateTimeConstants.MILLIS_PER_DAY : Long.MIN_VALUE);
+            safeEnd = (next > utcInstant ? next - 2 * DateTimeConstants.MILLIS_PER_DAY : Long.MAX_VALUE);
+        }
+    }
+
+    public void getDateTimeFields(long instant, int[] values) {
+        // Convert once, rather than in each zoned field.
+        getBase().getDateTimeFields(getZone().convertUTCToLocal(instant), values);
+    }
+
     /**
      * @param localInstant  the instant from 1970-01-01T00:00:00 local time
      * @return the instant from 1970-01-01T00:00:00Z
@@ -490,6 +552,10 @@ public final class ZonedChronology extends AssembledChronology {
             return result;
         }
 
+        public boolean isValidValueForSet(long instant, int value) {
+            return iField.isValidValueForSet(iZone.convertUTCToLocal(instant), value);
+        }
+
         public long set(long instant, String text, Locale locale) {
             // cannot verify that new value stuck because set may be lenient
             long localInstant = iZone.convertUTCToLocal(instant);
@@ -534,24 +600,42 @@ public final class ZonedChronology extends AssembledChronology {
         }
 
         public long roundFloor(long instant) {
+            return roundFloor(instant, iZone.convertUTCToLocal(instant));
+        }
+
+        /**
+         * Rounds to the floor, where the instant has already been converted to local.
+         * 
+         * @param instant  the instant to round
+         * @param localInstant  the instant converted to local by the zone of this field
+         * @return the rounded instant
+         */
+        long roundFloor(long instant, long localInstant) {
             if (iTimeField) {
-                int offset = getOffsetToAdd(instant);
-                instant = iField.roundFloor(instant + offset);
-                return instant - offset;
+                long offset = localInstant - instant;
+                return iField.roundFloor(localInstant) - offset;
             } else {
-                long localInstant = iZone.convertUTCToLocal(instant);
                 localInstant = iField.roundFloor(localInstant);
                 return iZone.convertLocalToUTC(localInstant, false, instant);
             }
         }
 
         public long roundCeiling(long instant) {
+            return roundCeiling(instant, iZone.convertUTCToLocal(instant));
+        }
+
+        /**
+         * Rounds to the ceiling, where the instant has already been converted to local.
+         * 
+         * @param instant  the instant to round
+         * @param localInstant  the instant converted to local by the zone of this field
+         * @return the rounded instant
+         */
+        long roundCeiling(long instant, long localInstant) {
             if (iTimeField) {
-                int offset = getOffsetToAdd(instant);
-                instant = iField.roundCeiling(instant + offset);
-                return instant - offset;
+                long offset = localInstant - instant;
+                return iField.roundCeiling(localInstant) - offset;
             } else {
-                long localInstant = iZone.convertUTCToLocal(instant);
                 localInstant = iField.roundCeiling(localInstant);
                 return iZone.convertLocalToUTC(localInstant, false, instant);
             }
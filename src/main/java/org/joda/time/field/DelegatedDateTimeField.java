@@ -186,6 +186,10 @@ public class DelegatedDateTimeField extends DateTimeField implements Serializabl
         return iField.set(instant, value);
     }
 
+    public boolean isValidValueForSet(long instant, int value) {
+        return iField.isValidValueForSet(instant, value);
+    }
+
     public long set(long instant, String text, Locale locale) {
         return iField.set(instant, text, locale);
     }
@@ -74,4 +74,11 @@ public class LenientDateTimeField extends DelegatedDateTimeField {
         localInstant = getType().getField(iBase.withUTC()).add(localInstant, difference);
         return iBase.getZone().convertLocalToUTC(localInstant, false, instant);
     }
+
+    /**
+     * Any value may be set, as values out of bounds are added.
+     */
+    public boolean isValidValueForSet(long instant, int value) {
+        return true;
+    }
 }
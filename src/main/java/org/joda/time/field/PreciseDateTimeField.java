@@ -113,6 +113,18 @@ public class PreciseDateTimeField extends PreciseDurationDateTimeField {
         return instant + (value - get(instant)) * iUnitMillis;
     }
 
+    /**
+     * Checks whether a value can be set, using the same limits as
+     * {@link #set(long, int)}.
+     * 
+     * @param instant  the milliseconds from 1970-01-01T00:00:00Z to set in
+     * @param value  value of units to set.
+     * @return false if setting the value would throw an exception
+     */
+    public boolean isValidValueForSet(long instant, int value) {
+        return value >= getMinimumValue() && value <= getMaximumValue();
+    }
+
     /**
      * Returns the range duration of this field. For example, if this field
      * represents "minute of hour", then the range duration field is an hours.
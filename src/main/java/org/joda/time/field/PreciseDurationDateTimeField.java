@@ -81,6 +81,18 @@ public abstract class PreciseDurationDateTimeField extends BaseDateTimeField {
         return instant + (value - get(instant)) * iUnitMillis;
     }
 
+    /**
+     * Checks whether a value can be set, using the same limits as
+     * {@link #set(long, int)}.
+     * 
+     * @param instant  the milliseconds from 1970-01-01T00:00:00Z to set in
+     * @param value  value of units to set.
+     * @return false if setting the value would throw an exception
+     */
+    public boolean isValidValueForSet(long instant, int value) {
+        return value >= getMinimumValue() && value <= getMaximumValueForSet(instant, value);
+    }
+
     /**
      * This method assumes that this field is properly rounded on
      * 1970-01-01T00:00:00. If the rounding alignment differs, override this
@@ -96,6 +96,16 @@ public final class SkipDateTimeField extends DelegatedDateTimeField {
         return super.set(millis, value);
     }
 
+    public boolean isValidValueForSet(long millis, int value) {
+        if (value < iMinValue || value > getMaximumValue() || value == iSkip) {
+            return false;
+        }
+        if (value < iSkip) {
+            value++;
+        }
+        return super.isValidValueForSet(millis, value);
+    }
+
     public int getMinimumValue() {
         return iMinValue;
     }
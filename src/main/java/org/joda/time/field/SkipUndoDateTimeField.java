@@ -91,6 +91,16 @@ public final class SkipUndoDateTimeField extends DelegatedDateTimeField {
         return super.set(millis, value);
     }
 
+    public boolean isValidValueForSet(long millis, int value) {
+        if (value < iMinValue || value > getMaximumValue()) {
+            return false;
+        }
+        if (value <= iSkip) {
+            value--;
+        }
+        return super.isValidValueForSet(millis, value);
+    }
+
     public int getMinimumValue() {
         return iMinValue;
     }
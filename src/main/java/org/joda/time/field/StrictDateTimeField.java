@@ -68,4 +68,12 @@ public class StrictDateTimeField extends DelegatedDateTimeField {
             (this, value, getMinimumValue(instant), getMaximumValue(instant));
         return super.set(instant, value);
     }
+
+    /**
+     * Checks the value against the bounds at the instant, as set does.
+     */
+    public boolean isValidValueForSet(long instant, int value) {
+        return value >= getMinimumValue(instant) && value <= getMaximumValue(instant) &&
+            super.isValidValueForSet(instant, value);
+    }
 }
@@ -16,8 +16,9 @@
 package org.joda.time.field;
 
 import java.io.Serializable;
-import java.util.HashMap;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.joda.time.DateTimeField;
 import org.joda.time.DateTimeFieldType;
 import org.joda.time.DurationField;
@@ -37,7 +38,8 @@ public final class UnsupportedDateTimeField extends DateTimeField implements Ser
     private static final long serialVersionUID = -1934618396111902255L;
 
     /** The cache of unsupported datetime field instances */
-    private static HashMap<DateTimeFieldType, UnsupportedDateTimeField> cCache;
+    private static final ConcurrentHashMap<DateTimeFieldType, UnsupportedDateTimeField> cCache =
+            new ConcurrentHashMap<DateTimeFieldType, UnsupportedDateTimeField>(7);
 
     /**
      * Gets an instance of UnsupportedDateTimeField for a specific named field.
@@ -48,20 +50,11 @@ public final class UnsupportedDateTimeField extends DateTimeField implements Ser
      * @return the instance
      * @throws IllegalArgumentException if durationField is null
      */
-    public static synchronized UnsupportedDateTimeField getInstance(
+    public static UnsupportedDateTimeField getInstance(
             DateTimeFieldType type, DurationField durationField) {
 
-        UnsupportedDateTimeField field;
-        if (cCache == null) {
-            cCache = new HashMap<DateTimeFieldType, UnsupportedDateTimeField>(7);
-            field = null;
-        } else {
-            field = cCache.get(type);
-            if (field != null && field.getDurationField() != durationField) {
-                field = null;
-            }
-        }
-        if (field == null) {
+        UnsupportedDateTimeField field = (type != null ? cCache.get(type) : null);
+        if (field == null || field.getDurationField() != durationField) {
             field = new UnsupportedDateTimeField(type, durationField);
             cCache.put(type, field);
         }
@@ -16,7 +16,7 @@
 package org.joda.time.field;
 
 import java.io.Serializable;
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.joda.time.DurationField;
 import org.joda.time.DurationFieldType;
@@ -35,7 +35,8 @@ public final class UnsupportedDurationField extends DurationField implements Ser
     private static final long serialVersionUID = -6390301302770925357L;
 
     /** The cache of unsupported duration field instances */
-    private static HashMap<DurationFieldType, UnsupportedDurationField> cCache;
+    private static final ConcurrentHashMap<DurationFieldType, UnsupportedDurationField> cCache =
+            new ConcurrentHashMap<DurationFieldType, UnsupportedDurationField>(7);
 
     /**
      * Gets an instance of UnsupportedDurationField for a specific named field.
@@ -44,17 +45,18 @@ public final class UnsupportedDurationField extends DurationField implements Ser
      * @param type  the type to obtain
      * @return the instance
      */
-    public static synchronized UnsupportedDurationField getInstance(DurationFieldType type) {
-        UnsupportedDurationField field;
-        if (cCache == null) {
-            cCache = new HashMap<DurationFieldType, UnsupportedDurationField>(7);
-            field = null;
-        } else {
-            field = cCache.get(type);
+    public static UnsupportedDurationField getInstance(DurationFieldType type) {
+        if (type == null) {
+            // not cached, as the map does not hold null keys
+            return new UnsupportedDurationField(null);
         }
+        UnsupportedDurationField field = cCache.get(type);
         if (field == null) {
             field = new UnsupportedDurationField(type);
-            cCache.put(type, field);
+            UnsupportedDurationField existing = cCache.putIfAbsent(type, field);
+            if (existing != null) {
+                field = existing;
+            }
         }
         return field;
     }
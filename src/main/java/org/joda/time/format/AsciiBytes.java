@@ -0,0 +1,188 @@
+/*
+ *  Copyright 2001-2015 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.format;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Views ASCII bytes as characters for parsing, and writes characters as ASCII bytes for printing.
+ * <p>
+ * The bytes are not copied, allowing text held in a network or file buffer to be
+ * parsed or printed without decoding or encoding it via a String.
+ * Each byte is treated as a single ISO-8859-1 character, of which ASCII is a subset.
+ * When printing, characters that cannot be represented in a single byte are written as '?'.
+ * <p>
+ * AsciiBytes is mutable and not thread-safe.
+ *
+ * @since 2.8
+ */
+class AsciiBytes implements CharSequence, Appendable {
+
+    /** The array, null if using a buffer. */
+    private byte[] iBytes;
+    /** The buffer, null if using an array. */
+    private ByteBuffer iBuffer;
+    /** The index of the first byte. */
+    private int iStart;
+    /** The number of bytes, or the capacity when printing. */
+    private int iLength;
+    /** The number of bytes printed. */
+    private int iPrinted;
+
+    /**
+     * Creates a view of part of an array.
+     *
+     * @param bytes  the bytes, not null
+     * @param offset  the index of the first byte
+     * @param length  the number of bytes
+     * @throws IndexOutOfBoundsException if the range is not within the array
+     */
+    AsciiBytes(byte[] bytes, int offset, int length) {
+        super();
+        setBytes(bytes, offset, length);
+    }
+
+    /**
+     * Creates a view of the bytes remaining in a buffer, from position to limit.
+     * The position of the buffer is not changed.
+     *
+     * @param buffer  the buffer, not null
+     */
+    AsciiBytes(ByteBuffer buffer) {
+        super();
+        setBuffer(buffer);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Changes this to a view of part of an array, with nothing printed.
+     *
+     * @param bytes  the bytes, not null
+     * @param offset  the index of the first byte
+     * @param length  the number of bytes
+     * @return this, for chaining
+     * @throws IndexOutOfBoundsException if the range is not within the array
+     */
+    AsciiBytes setBytes(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException(
+                "Invalid range, offset " + offset + " and length " + length + " for array of " + bytes.length);
+        }
+        iBytes = bytes;
+        iBuffer = null;
+        iStart = offset;
+        iLength = length;
+        iPrinted = 0;
+        return this;
+    }
+
+    /**
+     * Changes this to a view of the bytes remaining in a buffer, with nothing printed.
+     * The position of the buffer is not changed.
+     *
+     * @param buffer  the buffer, not null
+     * @return this, for chaining
+     */
+    AsciiBytes setBuffer(ByteBuffer buffer) {
+        iBytes = null;
+        iBuffer = buffer;
+        iStart = buffer.position();
+        iLength = buffer.remaining();
+        iPrinted = 0;
+        return this;
+    }
+
+    //-----------------------------------------------------------------------
+    public int length() {
+        return iLength;
+    }
+
+    public char charAt(int index) {
+        if (index < 0 || index >= iLength) {
+            throw new IndexOutOfBoundsException("Invalid index " + index + " for length " + iLength);
+        }
+        byte b = (iBytes != null ? iBytes[iStart + index] : iBuffer.get(iStart + index));
+        return (char) (b & 0xFF);
+    }
+
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > iLength || start > end) {
+            throw new IndexOutOfBoundsException("Invalid range " + start + " to " + end + " for length " + iLength);
+        }
+        if (iBytes != null) {
+            return new AsciiBytes(iBytes, iStart + start, end - start);
+        }
+        ByteBuffer buffer = iBuffer.duplicate();
+        buffer.limit(iStart + end);
+        buffer.position(iStart + start);
+        return new AsciiBytes(buffer);
+    }
+
+    @Override
+    public String toString() {
+        char[] chars = new char[iLength];
+        for (int i = 0; i < iLength; i++) {
+            chars[i] = charAt(i);
+        }
+        return new String(chars);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of bytes printed.
+     *
+     * @return the number of bytes printed
+     */
+    int getPrinted() {
+        return iPrinted;
+    }
+
+    public Appendable append(char c) {
+        if (iPrinted == iLength) {
+            if (iBuffer != null) {
+                throw new BufferOverflowException();
+            }
+            throw new IndexOutOfBoundsException("Not enough space to print, capacity " + iLength);
+        }
+        byte b = (c <= 0xFF ? (byte) c : (byte) '?');
+        if (iBytes != null) {
+            iBytes[iStart + iPrinted] = b;
+        } else {
+            iBuffer.put(iStart + iPrinted, b);
+        }
+        iPrinted++;
+        return this;
+    }
+
+    public Appendable append(CharSequence csq) {
+        if (csq == null) {
+            csq = "null";
+        }
+        return append(csq, 0, csq.length());
+    }
+
+    public Appendable append(CharSequence csq, int start, int end) {
+        if (csq == null) {
+            csq = "null";
+        }
+        for (int i = start; i < end; i++) {
+            append(csq.charAt(i));
+        }
+        return this;
+    }
+
+}
@@ -17,6 +17,8 @@ package org.joda.time.format;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.text.ParsePosition;
 import java.util.Locale;
 
 import org.joda.time.Chronology;
@@ -518,7 +520,7 @@ public class DateTimeFormatter {
     public void printTo(Appendable appendable, ReadableInstant instant) throws IOException {
         long millis = DateTimeUtils.getInstantMillis(instant);
         Chronology chrono = DateTimeUtils.getInstantChronology(instant);
-        printTo(appendable, millis, chrono);
+        printTo(appendable, millis, chrono, null);
     }
 
     //-----------------------------------------------------------------------
@@ -557,7 +559,124 @@ public class DateTimeFormatter {
      * @since 2.0
      */
     public void printTo(Appendable appendable, long instant) throws IOException {
-        printTo(appendable, instant, null);
+        printTo(appendable, instant, null, null);
+    }
+
+    /**
+     * Prints an instant from milliseconds since 1970-01-01T00:00:00Z,
+     * re-using the state of a print context.
+     * <p>
+     * This behaves as {@link #printTo(Appendable, long)}, holding the working
+     * state of the print in the context to be re-used by the next print.
+     *
+     * @param appendable  the destination to format to, not null
+     * @param instant  millis since 1970-01-01T00:00:00Z
+     * @param context  the context to re-use, null creates new state
+     * @throws IOException if an IO error occurs
+     * @since 2.8
+     */
+    public void printTo(Appendable appendable, long instant, DateTimePrintContext context) throws IOException {
+        context = acquire(context);
+        try {
+            printTo(appendable, instant, null, context);
+        } finally {
+            release(context);
+        }
+    }
+
+    /**
+     * Prints an instant from milliseconds since 1970-01-01T00:00:00Z
+     * as ASCII bytes into an array.
+     * <p>
+     * This behaves as {@link #printTo(Appendable, long)}, writing each character
+     * as a single byte without creating a String. Characters that cannot be written
+     * as a single byte, such as some localized text, are written as '?'.
+     *
+     * @param bytes  the array to print into, not null
+     * @param offset  the index to print the first byte at
+     * @param instant  millis since 1970-01-01T00:00:00Z
+     * @return the number of bytes printed
+     * @throws IndexOutOfBoundsException if the array has too little space after the offset
+     * @since 2.8
+     */
+    public int printTo(byte[] bytes, int offset, long instant) {
+        return printTo(bytes, offset, instant, null);
+    }
+
+    /**
+     * Prints an instant from milliseconds since 1970-01-01T00:00:00Z
+     * as ASCII bytes into an array, re-using the state of a print context.
+     * <p>
+     * This behaves as {@link #printTo(byte[], int, long)}, holding the working
+     * state of the print in the context to be re-used by the next print.
+     *
+     * @param bytes  the array to print into, not null
+     * @param offset  the index to print the first byte at
+     * @param instant  millis since 1970-01-01T00:00:00Z
+     * @param context  the context to re-use, null creates new state
+     * @return the number of bytes printed
+     * @throws IndexOutOfBoundsException if the array has too little space after the offset
+     * @since 2.8
+     */
+    public int printTo(byte[] bytes, int offset, long instant, DateTimePrintContext context) {
+        context = acquire(context);
+        try {
+            int length = bytes.length - offset;
+            AsciiBytes out = (context != null ?
+                context.getBytes().setBytes(bytes, offset, length) : new AsciiBytes(bytes, offset, length));
+            try {
+                printTo(out, instant, null, context);
+            } catch (IOException ex) {
+                // AsciiBytes does not throw IOException
+            }
+            return out.getPrinted();
+        } finally {
+            release(context);
+        }
+    }
+
+    /**
+     * Prints an instant from milliseconds since 1970-01-01T00:00:00Z
+     * as ASCII bytes into a buffer.
+     * <p>
+     * This behaves as {@link #printTo(byte[], int, long)}, printing at the position
+     * of the buffer, which is advanced by the number of bytes printed.
+     *
+     * @param buffer  the buffer to print into, not null
+     * @param instant  millis since 1970-01-01T00:00:00Z
+     * @throws java.nio.BufferOverflowException if the buffer has too little space remaining
+     * @since 2.8
+     */
+    public void printTo(ByteBuffer buffer, long instant) {
+        printTo(buffer, instant, null);
+    }
+
+    /**
+     * Prints an instant from milliseconds since 1970-01-01T00:00:00Z
+     * as ASCII bytes into a buffer, re-using the state of a print context.
+     * <p>
+     * This behaves as {@link #printTo(ByteBuffer, long)}, holding the working
+     * state of the print in the context to be re-used by the next print.
+     *
+     * @param buffer  the buffer to print into, not null
+     * @param instant  millis since 1970-01-01T00:00:00Z
+     * @param context  the context to re-use, null creates new state
+     * @throws java.nio.BufferOverflowException if the buffer has too little space remaining
+     * @since 2.8
+     */
+    public void printTo(ByteBuffer buffer, long instant, DateTimePrintContext context) {
+        context = acquire(context);
+        try {
+            AsciiBytes out = (context != null ? context.getBytes().setBuffer(buffer) : new AsciiBytes(buffer));
+            try {
+                printTo(out, instant, null, context);
+            } catch (IOException ex) {
+                // AsciiBytes does not throw IOException
+            }
+            buffer.position(buffer.position() + out.getPrinted());
+        } finally {
+            release(context);
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -667,7 +786,8 @@ public class DateTimeFormatter {
         return buf.toString();
     }
 
-    private void printTo(Appendable appendable, long instant, Chronology chrono) throws IOException {
+    private void printTo(Appendable appendable, long instant, Chronology chrono,
+            DateTimePrintContext context) throws IOException {
         InternalPrinter printer = requirePrinter();
         chrono = selectChronology(chrono);
         // Shift instant into local time (UTC) to avoid excessive offset
@@ -681,7 +801,33 @@ public class DateTimeFormatter {
             offset = 0;
             adjustedInstant = instant;
         }
-        printer.printTo(appendable, adjustedInstant, chrono.withUTC(), offset, zone, iLocale);
+        if (context != null && printer instanceof DateTimeFormatterBuilder.Composite) {
+            ((DateTimeFormatterBuilder.Composite) printer).printTo(
+                appendable, adjustedInstant, chrono.withUTC(), offset, zone, iLocale, context.getFieldValues());
+        } else {
+            printer.printTo(appendable, adjustedInstant, chrono.withUTC(), offset, zone, iLocale);
+        }
+    }
+
+    /**
+     * Acquires a print context, which must be released once printing is complete.
+     * 
+     * @param context  the context to acquire, may be null
+     * @return the context, null if none or if already in use by an enclosing print
+     */
+    private static DateTimePrintContext acquire(DateTimePrintContext context) {
+        return (context != null && context.acquire() ? context : null);
+    }
+
+    /**
+     * Releases a print context.
+     * 
+     * @param context  the context to release, may be null
+     */
+    private static void release(DateTimePrintContext context) {
+        if (context != null) {
+            context.release();
+        }
     }
 
     /**
@@ -774,10 +920,115 @@ public class DateTimeFormatter {
      * @throws IllegalArgumentException if the text to parse is invalid
      */
     public long parseMillis(String text) {
+        return doParseMillis(text, null);
+    }
+
+    /**
+     * Parses a datetime from the given text, returning the number of
+     * milliseconds since the epoch, re-using the state of a parse context.
+     * <p>
+     * This behaves as {@link #parseMillis(String)}, keeping the state of the parse
+     * in the context to be re-used by the next parse with the same settings.
+     *
+     * @param text  the text to parse, not null
+     * @param context  the context to re-use, null creates new state
+     * @return parsed value expressed in milliseconds since the epoch
+     * @throws UnsupportedOperationException if parsing is not supported
+     * @throws IllegalArgumentException if the text to parse is invalid
+     * @since 2.8
+     */
+    public long parseMillis(String text, DateTimeParseContext context) {
+        return doParseMillis(text, context);
+    }
+
+    /**
+     * Parses a datetime from ASCII bytes in an array, returning the number of
+     * milliseconds since the epoch, 1970-01-01T00:00:00Z.
+     * <p>
+     * This behaves as {@link #parseMillis(String)}, reading each byte as a single
+     * character without creating a String.
+     *
+     * @param bytes  the array holding the text to parse, not null
+     * @param offset  the index of the first byte of the text
+     * @param length  the number of bytes of text
+     * @return parsed value expressed in milliseconds since the epoch
+     * @throws UnsupportedOperationException if parsing is not supported
+     * @throws IllegalArgumentException if the text to parse is invalid
+     * @throws IndexOutOfBoundsException if the range is not within the array
+     * @since 2.8
+     */
+    public long parseMillis(byte[] bytes, int offset, int length) {
+        return parseMillis(bytes, offset, length, null);
+    }
+
+    /**
+     * Parses a datetime from ASCII bytes in an array, returning the number of
+     * milliseconds since the epoch, re-using the state of a parse context.
+     * <p>
+     * This behaves as {@link #parseMillis(byte[], int, int)}, keeping the state of the parse
+     * in the context to be re-used by the next parse with the same settings.
+     *
+     * @param bytes  the array holding the text to parse, not null
+     * @param offset  the index of the first byte of the text
+     * @param length  the number of bytes of text
+     * @param context  the context to re-use, null creates new state
+     * @return parsed value expressed in milliseconds since the epoch
+     * @throws UnsupportedOperationException if parsing is not supported
+     * @throws IllegalArgumentException if the text to parse is invalid
+     * @throws IndexOutOfBoundsException if the range is not within the array
+     * @since 2.8
+     */
+    public long parseMillis(byte[] bytes, int offset, int length, DateTimeParseContext context) {
+        return doParseMillis(new AsciiBytes(bytes, offset, length), context);
+    }
+
+    /**
+     * Parses a datetime from the ASCII bytes remaining in a buffer, returning the
+     * number of milliseconds since the epoch, 1970-01-01T00:00:00Z.
+     * <p>
+     * This behaves as {@link #parseMillis(String)}, reading each byte from the
+     * position to the limit as a single character without creating a String.
+     * If the parse succeeds, the position is set to the limit.
+     *
+     * @param buffer  the buffer holding the text to parse, not null
+     * @return parsed value expressed in milliseconds since the epoch
+     * @throws UnsupportedOperationException if parsing is not supported
+     * @throws IllegalArgumentException if the text to parse is invalid
+     * @since 2.8
+     */
+    public long parseMillis(ByteBuffer buffer) {
+        return parseMillis(buffer, null);
+    }
+
+    /**
+     * Parses a datetime from the ASCII bytes remaining in a buffer, returning the
+     * number of milliseconds since the epoch, re-using the state of a parse context.
+     * <p>
+     * This behaves as {@link #parseMillis(ByteBuffer)}, keeping the state of the parse
+     * in the context to be re-used by the next parse with the same settings.
+     *
+     * @param buffer  the buffer holding the text to parse, not null
+     * @param context  the context to re-use, null creates new state
+     * @return parsed value expressed in milliseconds since the epoch
+     * @throws UnsupportedOperationException if parsing is not supported
+     * @throws IllegalArgumentException if the text to parse is invalid
+     * @since 2.8
+     */
+    public long parseMillis(ByteBuffer buffer, DateTimeParseContext context) {
+        long millis = doParseMillis(new AsciiBytes(buffer), context);
+        buffer.position(buffer.limit());
+        return millis;
+    }
+
+    private long doParseMillis(CharSequence text, DateTimeParseContext context) {
         InternalParser parser = requireParser();
         Chronology chrono = selectChronology(iChrono);
-        DateTimeParserBucket bucket = new DateTimeParserBucket(0, chrono, iLocale, iPivotYear, iDefaultYear);
-        return bucket.doParseMillis(parser, text);
+        DateTimeParserBucket bucket = obtainBucket(chrono, context);
+        try {
+            return bucket.doParseMillis(parser, text);
+        } finally {
+            bucket.release();
+        }
     }
 
     /**
@@ -944,6 +1195,207 @@ public class DateTimeFormatter {
         throw new IllegalArgumentException(FormatUtils.createErrorMessage(text, newPos));
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Parses a datetime from the given text, returning the number of
+     * milliseconds since the epoch, without throwing an exception if the text is invalid.
+     * <p>
+     * This behaves as {@link #parseMillis(String)}, parsing from the index of the
+     * position to the end of the text. If the parse succeeds, the index is set to the
+     * length of the text. If the parse fails, the error index is set to the position
+     * of the failure, or to the start index if a field value is out of range, and zero
+     * is returned. No exception is created for text that does not match the format,
+     * or for a field value the field reports as invalid using
+     * {@link org.joda.time.DateTimeField#isValidValueForSet(long, int) isValidValueForSet},
+     * such as the 30th of February, thus this is suited to input where many values are
+     * expected to be invalid. Other values a field rejects, such as a date in the gap
+     * of the Gregorian cutover, are detected by catching the exception.
+     *
+     * @param text  the text to parse, not null
+     * @param position  the position to parse from and to update, not null
+     * @return parsed value expressed in milliseconds since the epoch, zero if the parse failed
+     * @throws UnsupportedOperationException if parsing is not supported
+     * @since 2.8
+     */
+    public long parseMillis(String text, ParsePosition position) {
+        return parseMillis(text, position, null);
+    }
+
+    /**
+     * Parses a datetime from the given text, returning the number of milliseconds
+     * since the epoch, without throwing an exception if the text is invalid,
+     * re-using the state of a parse context.
+     * <p>
+     * This behaves as {@link #parseMillis(String, ParsePosition)}, keeping the state of the parse
+     * in the context to be re-used by the next parse with the same settings.
+     *
+     * @param text  the text to parse, not null
+     * @param position  the position to parse from and to update, not null
+     * @param context  the context to re-use, null creates new state
+     * @return parsed value expressed in milliseconds since the epoch, zero if the parse failed
+     * @throws UnsupportedOperationException if parsing is not supported
+     * @since 2.8
+     */
+    public long parseMillis(String text, ParsePosition position, DateTimeParseContext context) {
+        InternalParser parser = requireParser();
+        Chronology chrono = selectChronology(iChrono);
+        DateTimeParserBucket bucket = obtainBucket(chrono, context);
+        try {
+            return (parseQuietly(parser, bucket, text, position) ? bucket.getComputedMillis() : 0);
+        } finally {
+            bucket.release();
+        }
+    }
+
+    /**
+     * Parses only the local date from the given text, returning null if the text is invalid.
+     * <p>
+     * This behaves as {@link #parseLocalDate(String)}, with the position handled
+     * as described in {@link #parseMillis(String, ParsePosition)}.
+     *
+     * @param text  the text to parse, not null
+     * @param position  the position to parse from and to update, not null
+     * @return the parsed date, null if the parse failed
+     * @throws UnsupportedOperationException if parsing is not supported
+     * @since 2.8
+     */
+    public LocalDate parseLocalDate(String text, ParsePosition position) {
+        LocalDateTime parsed = parseLocalDateTime(text, position);
+        return (parsed != null ? parsed.toLocalDate() : null);
+    }
+
+    /**
+     * Parses only the local time from the given text, returning null if the text is invalid.
+     * <p>
+     * This behaves as {@link #parseLocalTime(String)}, with the position handled
+     * as described in {@link #parseMillis(String, ParsePosition)}.
+     *
+     * @param text  the text to parse, not null
+     * @param position  the position to parse from and to update, not null
+     * @return the parsed time, null if the parse failed
+     * @throws UnsupportedOperationException if parsing is not supported
+     * @since 2.8
+     */
+    public LocalTime parseLocalTime(String text, ParsePosition position) {
+        LocalDateTime parsed = parseLocalDateTime(text, position);
+        return (parsed != null ? parsed.toLocalTime() : null);
+    }
+
+    /**
+     * Parses only the local date-time from the given text, returning null if the text is invalid.
+     * <p>
+     * This behaves as {@link #parseLocalDateTime(String)}, with the position handled
+     * as described in {@link #parseMillis(String, ParsePosition)}.
+     *
+     * @param text  the text to parse, not null
+     * @param position  the position to parse from and to update, not null
+     * @return the parsed date-time, null if the parse failed
+     * @throws UnsupportedOperationException if parsing is not supported
+     * @since 2.8
+     */
+    public LocalDateTime parseLocalDateTime(String text, ParsePosition position) {
+        InternalParser parser = requireParser();
+        
+        Chronology chrono = selectChronology(null).withUTC();  // always use UTC, avoiding DST gaps
+        DateTimeParserBucket bucket = obtainBucket(chrono, null);
+        try {
+            if (parseQuietly(parser, bucket, text, position) == false) {
+                return null;
+            }
+            if (bucket.getOffsetInteger() != null) {  // treat withOffsetParsed() as being true
+                int parsedOffset = bucket.getOffsetInteger();
+                DateTimeZone parsedZone = DateTimeZone.forOffsetMillis(parsedOffset);
+                chrono = chrono.withZone(parsedZone);
+            } else if (bucket.getZone() != null) {
+                chrono = chrono.withZone(bucket.getZone());
+            }
+            return new LocalDateTime(bucket.getComputedMillis(), chrono);
+        } finally {
+            bucket.release();
+        }
+    }
+
+    /**
+     * Parses a date-time from the given text, returning null if the text is invalid.
+     * <p>
+     * This behaves as {@link #parseDateTime(String)}, with the position handled
+     * as described in {@link #parseMillis(String, ParsePosition)}.
+     *
+     * @param text  the text to parse, not null
+     * @param position  the position to parse from and to update, not null
+     * @return the parsed date-time, null if the parse failed
+     * @throws UnsupportedOperationException if parsing is not supported
+     * @since 2.8
+     */
+    public DateTime parseDateTime(String text, ParsePosition position) {
+        InternalParser parser = requireParser();
+        
+        Chronology chrono = selectChronology(null);
+        DateTimeParserBucket bucket = obtainBucket(chrono, null);
+        try {
+            if (parseQuietly(parser, bucket, text, position) == false) {
+                return null;
+            }
+            if (iOffsetParsed && bucket.getOffsetInteger() != null) {
+                int parsedOffset = bucket.getOffsetInteger();
+                DateTimeZone parsedZone = DateTimeZone.forOffsetMillis(parsedOffset);
+                chrono = chrono.withZone(parsedZone);
+            } else if (bucket.getZone() != null) {
+                chrono = chrono.withZone(bucket.getZone());
+            }
+            DateTime dt = new DateTime(bucket.getComputedMillis(), chrono);
+            if (iZone != null) {
+                dt = dt.withZone(iZone);
+            }
+            return dt;
+        } finally {
+            bucket.release();
+        }
+    }
+
+    /**
+     * Parses the text to its end into the bucket, recording the outcome in the position.
+     * 
+     * @param parser  the parser, not null
+     * @param bucket  the bucket, not null
+     * @param text  the text to parse, not null
+     * @param position  the position to parse from and to update, not null
+     * @return true if parsed, with the result available from the bucket
+     */
+    private static boolean parseQuietly(
+            InternalParser parser, DateTimeParserBucket bucket, String text, ParsePosition position) {
+        int start = position.getIndex();
+        int newPos = parser.parseInto(bucket, text, start);
+        if (newPos >= 0) {
+            if (newPos >= text.length()) {
+                if (bucket.computeMillisQuietly(true)) {
+                    position.setIndex(newPos);
+                    return true;
+                }
+                newPos = start;
+            }
+        } else {
+            newPos = ~newPos;
+        }
+        position.setErrorIndex(newPos);
+        return false;
+    }
+
+    /**
+     * Gets a bucket to parse with, reusing the one held by the context if possible.
+     * The bucket must be released once parsing is complete.
+     * 
+     * @param chrono  the chronology to parse with
+     * @param context  the context to re-use, null creates a new bucket
+     * @return the bucket, not null
+     */
+    private DateTimeParserBucket obtainBucket(Chronology chrono, DateTimeParseContext context) {
+        if (context == null) {
+            return new DateTimeParserBucket(0, chrono, iLocale, iPivotYear, iDefaultYear);
+        }
+        return context.obtainBucket(chrono, iLocale, iPivotYear, iDefaultYear);
+    }
+
     /**
      * Checks whether parsing is supported.
      * 
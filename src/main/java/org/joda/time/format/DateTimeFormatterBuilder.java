@@ -17,6 +17,8 @@ package org.joda.time.format;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -29,9 +31,11 @@ import org.joda.time.DateTimeField;
 import org.joda.time.DateTimeFieldType;
 import org.joda.time.DateTimeUtils;
 import org.joda.time.DateTimeZone;
+import org.joda.time.DurationField;
 import org.joda.time.MutableDateTime;
 import org.joda.time.MutableDateTime.Property;
 import org.joda.time.ReadablePartial;
+import org.joda.time.chrono.ISOChronology;
 import org.joda.time.field.MillisDurationField;
 import org.joda.time.field.PreciseDateTimeField;
 
@@ -1023,6 +1027,7 @@ public class DateTimeFormatterBuilder {
      * Time zone names are not unique, thus the API forces you to supply the lookup.
      * The names are searched in the order of the map, thus it is strongly recommended
      * to use a {@code LinkedHashMap} or similar.
+     * The table is read when this method is called, later changes to it are not seen.
      *
      * @param parseLookup  the table of names, not null
      * @return this DateTimeFormatterBuilder, for chaining
@@ -1049,6 +1054,7 @@ public class DateTimeFormatterBuilder {
      * Time zone names are not unique, thus the API forces you to supply the lookup.
      * The names are searched in the order of the map, thus it is strongly recommended
      * to use a {@code LinkedHashMap} or similar.
+     * The table is read when this method is called, later changes to it are not seen.
      *
      * @param parseLookup  the table of names, null to use the {@link DateTimeUtils#getDefaultTimeZoneNames() default names}
      * @return this DateTimeFormatterBuilder, for chaining
@@ -1300,6 +1306,14 @@ public class DateTimeFormatterBuilder {
             return iMaxParsedDigits;
         }
 
+        /**
+         * Prints a value already obtained from the field.
+         * 
+         * @param appendable  the destination to format to, not null
+         * @param value  the value of the field
+         */
+        abstract void printValue(Appendable appendable, int value) throws IOException;
+
         public int parseInto(DateTimeParserBucket bucket, CharSequence text, int position) {
             int limit = Math.min(iMaxParsedDigits, text.length() - position);
 
@@ -1384,12 +1398,16 @@ public class DateTimeFormatterBuilder {
                 int displayOffset, DateTimeZone displayZone, Locale locale) throws IOException {
             try {
                 DateTimeField field = iFieldType.getField(chrono);
-                FormatUtils.appendUnpaddedInteger(appendable, field.get(instant));
+                printValue(appendable, field.get(instant));
             } catch (RuntimeException e) {
                 appendable.append('\ufffd');
             }
         }
 
+        void printValue(Appendable appendable, int value) throws IOException {
+            FormatUtils.appendUnpaddedInteger(appendable, value);
+        }
+
         public void printTo(Appendable appendable, ReadablePartial partial, Locale locale) throws IOException {
             if (partial.isSupported(iFieldType)) {
                 try {
@@ -1424,12 +1442,16 @@ public class DateTimeFormatterBuilder {
                 int displayOffset, DateTimeZone displayZone, Locale locale) throws IOException {
             try {
                 DateTimeField field = iFieldType.getField(chrono);
-                FormatUtils.appendPaddedInteger(appendable, field.get(instant), iMinPrintedDigits);
+                printValue(appendable, field.get(instant));
             } catch (RuntimeException e) {
                 appendUnknownString(appendable, iMinPrintedDigits);
             }
         }
 
+        void printValue(Appendable appendable, int value) throws IOException {
+            FormatUtils.appendPaddedInteger(appendable, value, iMinPrintedDigits);
+        }
+
         public void printTo(Appendable appendable, ReadablePartial partial, Locale locale) throws IOException {
             if (partial.isSupported(iFieldType)) {
                 try {
@@ -1652,6 +1674,7 @@ public class DateTimeFormatterBuilder {
     static class TextField
             implements InternalPrinter, InternalParser {
 
+        /** The compiled lookups, by locale and field type, with the field class the values apply to. */
         private static Map<Locale, Map<DateTimeFieldType, Object[]>> cParseCache =
                     new ConcurrentHashMap<Locale, Map<DateTimeFieldType, Object[]>>();
         private final DateTimeFieldType iFieldType;
@@ -1714,10 +1737,35 @@ public class DateTimeFormatterBuilder {
         @SuppressWarnings("unchecked")
         public int parseInto(DateTimeParserBucket bucket, CharSequence text, int position) {
             Locale locale = bucket.getLocale();
+            Object[] lookup = parseLookup(locale);
+            if (lookup == null) {
+                return ~position;
+            }
+            PrefixTrie.Node<Integer> matched = ((PrefixTrie<Integer>) lookup[0]).match(text, position);
+            if (matched == null) {
+                return ~position;
+            }
+            int end = position + matched.getLength();
+            Integer value = matched.getValue();
+            DateTimeField field = iFieldType.getField(bucket.getChronology());
+            if (value != null && field.getClass() == lookup[1]) {
+                // the field has the same text as ISO, so the value is known
+                bucket.saveField(field, value.intValue());
+            } else {
+                bucket.saveField(iFieldType, text.subSequence(position, end).toString(), locale);
+            }
+            return end;
+        }
+
+        /**
+         * Gets the lookup of the text of the field in a locale, compiling it if necessary.
+         * 
+         * @param locale  the locale
+         * @return the trie of text to value and the ISO field class, null if the field has no text
+         */
+        private Object[] parseLookup(Locale locale) {
             // handle languages which might have non ASCII A-Z or punctuation
             // bug 1788282
-            Map<String, Boolean> validValues = null;
-            int maxLength = 0;
             Map<DateTimeFieldType, Object[]> innerMap = cParseCache.get(locale);
             if (innerMap == null) {
                 innerMap = new ConcurrentHashMap<DateTimeFieldType, Object[]>();
@@ -1725,48 +1773,48 @@ public class DateTimeFormatterBuilder {
             }
             Object[] array = innerMap.get(iFieldType);
             if (array == null) {
-                validValues = new ConcurrentHashMap<String, Boolean>(32);  // use map as no concurrent Set
+                Map<String, Integer> values = new HashMap<String, Integer>(64);
                 MutableDateTime dt = new MutableDateTime(0L, DateTimeZone.UTC);
                 Property property = dt.property(iFieldType);
                 int min = property.getMinimumValueOverall();
                 int max = property.getMaximumValueOverall();
                 if (max - min > 32) {  // protect against invalid fields
-                    return ~position;
+                    return null;
                 }
-                maxLength = property.getMaximumTextLength(locale);
                 for (int i = min; i <= max; i++) {
                     property.set(i);
-                    validValues.put(property.getAsShortText(locale), Boolean.TRUE);
-                    validValues.put(property.getAsShortText(locale).toLowerCase(locale), Boolean.TRUE);
-                    validValues.put(property.getAsShortText(locale).toUpperCase(locale), Boolean.TRUE);
-                    validValues.put(property.getAsText(locale), Boolean.TRUE);
-                    validValues.put(property.getAsText(locale).toLowerCase(locale), Boolean.TRUE);
-                    validValues.put(property.getAsText(locale).toUpperCase(locale), Boolean.TRUE);
+                    Integer value = Integer.valueOf(i);
+                    addText(values, property.getAsShortText(locale), value, locale);
+                    addText(values, property.getAsText(locale), value, locale);
                 }
                 if ("en".equals(locale.getLanguage()) && iFieldType == DateTimeFieldType.era()) {
                     // hack to support for parsing "BCE" and "CE" if the language is English
-                    validValues.put("BCE", Boolean.TRUE);
-                    validValues.put("bce", Boolean.TRUE);
-                    validValues.put("CE", Boolean.TRUE);
-                    validValues.put("ce", Boolean.TRUE);
-                    maxLength = 3;
+                    addText(values, "BCE", Integer.valueOf(DateTimeConstants.BCE), locale);
+                    addText(values, "CE", Integer.valueOf(DateTimeConstants.CE), locale);
                 }
-                array = new Object[] {validValues, Integer.valueOf(maxLength)};
+                Class<?> fieldClass = iFieldType.getField(dt.getChronology()).getClass();
+                array = new Object[] {new PrefixTrie<Integer>(values, true), fieldClass};
                 innerMap.put(iFieldType, array);
-            } else {
-                validValues = (Map<String, Boolean>) array[0];
-                maxLength = ((Integer) array[1]).intValue();
-            }
-            // match the longest string first using our knowledge of the max length
-            int limit = Math.min(text.length(), position + maxLength);
-            for (int i = limit; i > position; i--) {
-                String match = text.subSequence(position, i).toString();
-                if (validValues.containsKey(match)) {
-                    bucket.saveField(iFieldType, match, locale);
-                    return i;
+            }
+            return array;
+        }
+
+        /**
+         * Adds the text of a value, and its upper and lower case forms in the locale,
+         * with case folded. Text shared by two values is kept with a null value.
+         */
+        private static void addText(Map<String, Integer> values, String text, Integer value, Locale locale) {
+            String[] texts = {text, text.toLowerCase(locale), text.toUpperCase(locale)};
+            for (int i = 0; i < texts.length; i++) {
+                String key = PrefixTrie.foldCase(texts[i]);
+                if (key.length() > 0) {
+                    if (values.containsKey(key) && value.equals(values.get(key)) == false) {
+                        values.put(key, null);
+                    } else if (values.containsKey(key) == false) {
+                        values.put(key, value);
+                    }
                 }
             }
-            return ~position;
         }
     }
 
@@ -1777,6 +1825,8 @@ public class DateTimeFormatterBuilder {
         private final DateTimeFieldType iFieldType;
         protected int iMinDigits;
         protected int iMaxDigits;
+        /** The field to save a parsed value in the ISO chronology, null if not precise. */
+        private final DateTimeField iParseField;
 
         protected Fraction(DateTimeFieldType fieldType, int minDigits, int maxDigits) {
             super();
@@ -1787,6 +1837,23 @@ public class DateTimeFormatterBuilder {
             }
             iMinDigits = minDigits;
             iMaxDigits = maxDigits;
+            // the duration fields of the time are shared by all the ISO based chronologies
+            DateTimeField parseField;
+            try {
+                parseField = createParseField(fieldType.getField(ISOChronology.getInstanceUTC()).getDurationField());
+            } catch (IllegalArgumentException ex) {
+                // PreciseDateTimeField rejects an imprecise range, such as months,
+                // so the field is found from the chronology when parsing instead
+                parseField = null;
+            }
+            iParseField = parseField;
+        }
+
+        private static DateTimeField createParseField(DurationField rangeField) {
+            return new PreciseDateTimeField(
+                DateTimeFieldType.millisOfSecond(),
+                MillisDurationField.INSTANCE,
+                rangeField);
         }
 
         public int estimatePrintedLength() {
@@ -1832,6 +1899,12 @@ public class DateTimeFormatterBuilder {
             long scaled = fractionData[0];
             int maxDigits = (int) fractionData[1];
             
+            if (minDigits >= maxDigits) {
+                // no trailing zeros to chop, so print the digits directly
+                FormatUtils.appendPaddedInteger(appendable, scaled, maxDigits);
+                return;
+            }
+
             if ((scaled & 0x7fffffff) == scaled) {
                 str = Integer.toString((int) scaled);
             } else {
@@ -1935,10 +2008,11 @@ public class DateTimeFormatterBuilder {
                 return ~position;
             }
 
-            DateTimeField parseField = new PreciseDateTimeField(
-                DateTimeFieldType.millisOfSecond(),
-                MillisDurationField.INSTANCE,
-                field.getDurationField());
+            DurationField rangeField = field.getDurationField();
+            DateTimeField parseField = iParseField;
+            if (parseField == null || parseField.getRangeDurationField() != rangeField) {
+                parseField = createParseField(rangeField);
+            }
 
             bucket.saveField(parseField, (int) value);
 
@@ -2066,11 +2140,11 @@ public class DateTimeFormatterBuilder {
                             break zeroOffset;
                         }
                     }
-                    bucket.setOffset(Integer.valueOf(0));
+                    bucket.setOffsetMillis(0);
                     return position;
                 }
                 if (csStartsWithIgnoreCase(text, position, iZeroOffsetParseText)) {
-                    bucket.setOffset(Integer.valueOf(0));
+                    bucket.setOffsetMillis(0);
                     return position + iZeroOffsetParseText.length();
                 }
             }
@@ -2220,7 +2294,7 @@ public class DateTimeFormatterBuilder {
                 }
             }
 
-            bucket.setOffset(Integer.valueOf(negative ? -offset : offset));
+            bucket.setOffsetMillis(negative ? -offset : offset);
             return position;
         }
 
@@ -2249,13 +2323,31 @@ public class DateTimeFormatterBuilder {
         static final int LONG_NAME = 0;
         static final int SHORT_NAME = 1;
 
-        private final Map<String, DateTimeZone> iParseLookup;
+        /** The default names, and the lookup compiled from them. */
+        private static volatile Object[] cDefaultLookup = new Object[2];
+
+        private final PrefixTrie<DateTimeZone> iParseLookup;
         private final int iType;
 
         TimeZoneName(int type, Map<String, DateTimeZone> parseLookup) {
             super();
             iType = type;
-            iParseLookup = parseLookup;
+            iParseLookup = (parseLookup != null ? new PrefixTrie<DateTimeZone>(parseLookup) : null);
+        }
+
+        /**
+         * Gets the lookup for the default time zone names, compiling it only
+         * when the default names have changed.
+         */
+        @SuppressWarnings("unchecked")
+        private static PrefixTrie<DateTimeZone> defaultLookup() {
+            Map<String, DateTimeZone> names = DateTimeUtils.getDefaultTimeZoneNames();
+            Object[] lookup = cDefaultLookup;
+            if (lookup[0] != names) {
+                lookup = new Object[] {names, new PrefixTrie<DateTimeZone>(names)};
+                cDefaultLookup = lookup;
+            }
+            return (PrefixTrie<DateTimeZone>) lookup[1];
         }
 
         public int estimatePrintedLength() {
@@ -2290,19 +2382,12 @@ public class DateTimeFormatterBuilder {
         }
 
         public int parseInto(DateTimeParserBucket bucket, CharSequence text, int position) {
-            Map<String, DateTimeZone> parseLookup = iParseLookup;
-            parseLookup = (parseLookup != null ? parseLookup : DateTimeUtils.getDefaultTimeZoneNames());
-            String matched = null;
-            for (String name : parseLookup.keySet()) {
-                if (csStartsWith(text, position, name)) {
-                    if (matched == null || name.length() > matched.length()) {
-                        matched = name;
-                    }
-                }
-            }
+            PrefixTrie<DateTimeZone> parseLookup = iParseLookup;
+            parseLookup = (parseLookup != null ? parseLookup : defaultLookup());
+            PrefixTrie.Node<DateTimeZone> matched = parseLookup.match(text, position);
             if (matched != null) {
-                bucket.setZone(parseLookup.get(matched));
-                return position + matched.length();
+                bucket.setZone(matched.getValue());
+                return position + matched.getLength();
             }
             return ~position;
         }
@@ -2314,13 +2399,17 @@ public class DateTimeFormatterBuilder {
 
         INSTANCE;
         static final Set<String> ALL_IDS = DateTimeZone.getAvailableIDs();
+        static final PrefixTrie<String> ID_TRIE;
         static final int MAX_LENGTH;
         static {
             int max = 0;
+            Map<String, String> ids = new HashMap<String, String>();
             for (String id : ALL_IDS) {
                 max = Math.max(max, id.length());
+                ids.put(id, id);
             }
             MAX_LENGTH = max;
+            ID_TRIE = new PrefixTrie<String>(ids);
         }
 
         public int estimatePrintedLength() {
@@ -2342,17 +2431,10 @@ public class DateTimeFormatterBuilder {
         }
 
         public int parseInto(DateTimeParserBucket bucket, CharSequence text, int position) {
-            String best = null;
-            for (String id : ALL_IDS) {
-                if (csStartsWith(text, position, id)) {
-                    if (best == null || id.length() > best.length()) {
-                        best = id;
-                    }
-                }
-            }
+            PrefixTrie.Node<String> best = ID_TRIE.match(text, position);
             if (best != null) {
-                bucket.setZone(DateTimeZone.forID(best));
-                return position + best.length();
+                bucket.setZone(DateTimeZone.forID(best.getValue()));
+                return position + best.getLength();
             }
             return ~position;
         }
@@ -2364,6 +2446,12 @@ public class DateTimeFormatterBuilder {
 
         private final InternalPrinter[] iPrinters;
         private final InternalParser[] iParsers;
+        /**
+         * For each printer, the index of its value from
+         * {@link Chronology#getDateTimeFields(long, int[])}, or -1 if it does
+         * not print one. Null if too few printers use the values.
+         */
+        private final int[] iPrintFieldIndexes;
 
         private final int iPrintedLengthEstimate;
         private final int iParsedLengthEstimate;
@@ -2390,6 +2478,7 @@ public class DateTimeFormatterBuilder {
                 }
                 iPrintedLengthEstimate = printEst;
             }
+            iPrintFieldIndexes = printFieldIndexes(iPrinters);
 
             if (parserList.contains(null) || parserList.isEmpty()) {
                 iParsers = null;
@@ -2414,6 +2503,18 @@ public class DateTimeFormatterBuilder {
         public void printTo(
                 Appendable appendable, long instant, Chronology chrono,
                 int displayOffset, DateTimeZone displayZone, Locale locale) throws IOException {
+            printTo(appendable, instant, chrono, displayOffset, displayZone, locale, null);
+        }
+
+        /**
+         * Prints an instant, obtaining the standard field values into an array
+         * that may be re-used.
+         * 
+         * @param fieldValues  the array of seven values to re-use, null to create one if needed
+         */
+        void printTo(
+                Appendable appendable, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale, int[] fieldValues) throws IOException {
             InternalPrinter[] elements = iPrinters;
             if (elements == null) {
                 throw new UnsupportedOperationException();
@@ -2424,10 +2525,69 @@ public class DateTimeFormatterBuilder {
                 locale = Locale.getDefault();
             }
 
+            // Obtain all the standard field values together when several are printed.
+            int[] indexes = iPrintFieldIndexes;
+            int[] values = null;
+            if (indexes != null) {
+                values = (fieldValues != null ? fieldValues : new int[7]);
+                try {
+                    chrono.getDateTimeFields(instant, values);
+                } catch (RuntimeException e) {
+                    values = null;
+                }
+            }
+
             int len = elements.length;
             for (int i = 0; i < len; i++) {
-                elements[i].printTo(appendable, instant, chrono, displayOffset, displayZone, locale);
+                InternalPrinter element = elements[i];
+                if (values != null && indexes[i] >= 0) {
+                    ((NumberFormatter) element).printValue(appendable, values[indexes[i]]);
+                } else if (fieldValues != null && element instanceof Composite) {
+                    ((Composite) element).printTo(
+                        appendable, instant, chrono, displayOffset, displayZone, locale, fieldValues);
+                } else {
+                    element.printTo(appendable, instant, chrono, displayOffset, displayZone, locale);
+                }
+            }
+        }
+
+        /**
+         * Finds the printers that print a standard field as a number.
+         * 
+         * @param printers  the printers, may be null
+         * @return the field indexes, null if fewer than two printers match
+         */
+        private static int[] printFieldIndexes(InternalPrinter[] printers) {
+            if (printers == null) {
+                return null;
+            }
+            int[] indexes = new int[printers.length];
+            int count = 0;
+            for (int i = 0; i < printers.length; i++) {
+                indexes[i] = -1;
+                if (printers[i] instanceof NumberFormatter) {
+                    DateTimeFieldType type = ((NumberFormatter) printers[i]).iFieldType;
+                    if (type == DateTimeFieldType.year()) {
+                        indexes[i] = 0;
+                    } else if (type == DateTimeFieldType.monthOfYear()) {
+                        indexes[i] = 1;
+                    } else if (type == DateTimeFieldType.dayOfMonth()) {
+                        indexes[i] = 2;
+                    } else if (type == DateTimeFieldType.hourOfDay()) {
+                        indexes[i] = 3;
+                    } else if (type == DateTimeFieldType.minuteOfHour()) {
+                        indexes[i] = 4;
+                    } else if (type == DateTimeFieldType.secondOfMinute()) {
+                        indexes[i] = 5;
+                    } else if (type == DateTimeFieldType.millisOfSecond()) {
+                        indexes[i] = 6;
+                    }
+                    if (indexes[i] >= 0) {
+                        count++;
+                    }
+                }
             }
+            return (count < 2 ? null : indexes);
         }
 
         public void printTo(Appendable appendable, ReadablePartial partial, Locale locale) throws IOException {
@@ -2589,6 +2749,157 @@ public class DateTimeFormatterBuilder {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Immutable prefix tree that finds the longest key matching the text
+     * at a position, at a cost that depends on the length of the key rather
+     * than the number of keys.
+     * <p>
+     * A trie that ignores case matches the text one character at a time
+     * using {@link #foldCase(char)}, and must be built from folded keys.
+     */
+    static final class PrefixTrie<V> {
+
+        private final Node<V> iRoot;
+        private final boolean iIgnoreCase;
+
+        PrefixTrie(Map<String, ? extends V> entries) {
+            this(entries, false);
+        }
+
+        PrefixTrie(Map<String, ? extends V> entries, boolean ignoreCase) {
+            super();
+            iIgnoreCase = ignoreCase;
+            int size = entries.size();
+            String[] keys = entries.keySet().toArray(new String[size]);
+            Arrays.sort(keys);
+            Object[] values = new Object[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = entries.get(keys[i]);
+            }
+            iRoot = build(keys, values, 0, size, 0);
+        }
+
+        /**
+         * Builds the node for the sorted keys between start and end, all of
+         * which share the same first depth characters.
+         */
+        @SuppressWarnings("unchecked")
+        private static <V> Node<V> build(String[] keys, Object[] values, int start, int end, int depth) {
+            boolean terminal = false;
+            V value = null;
+            if (start < end && keys[start].length() == depth) {
+                terminal = true;
+                value = (V) values[start];
+                start++;
+            }
+            int count = 0;
+            for (int i = start; i < end; i++) {
+                if (i == start || keys[i].charAt(depth) != keys[i - 1].charAt(depth)) {
+                    count++;
+                }
+            }
+            char[] chars = new char[count];
+            Node<V>[] children = newNodeArray(count);
+            int groupStart = start;
+            count = 0;
+            for (int i = start + 1; i <= end; i++) {
+                if (i == end || keys[i].charAt(depth) != keys[groupStart].charAt(depth)) {
+                    chars[count] = keys[groupStart].charAt(depth);
+                    children[count++] = build(keys, values, groupStart, i, depth + 1);
+                    groupStart = i;
+                }
+            }
+            return new Node<V>(depth, terminal, value, chars, children);
+        }
+
+        /**
+         * Creates an array of nodes, as generic arrays cannot be created directly.
+         */
+        @SuppressWarnings("unchecked")
+        private static <V> Node<V>[] newNodeArray(int size) {
+            return (Node<V>[]) new Node<?>[size];
+        }
+
+        /**
+         * Finds the longest key that the text starts with at the position.
+         * 
+         * @param text  the text to match
+         * @param position  the position to match from
+         * @return the node of the longest matching key, null if none match
+         */
+        Node<V> match(CharSequence text, int position) {
+            Node<V> node = iRoot;
+            Node<V> matched = null;
+            int limit = text.length();
+            for (int pos = position; ; pos++) {
+                if (node.iTerminal) {
+                    matched = node;
+                }
+                if (pos >= limit) {
+                    break;
+                }
+                char c = text.charAt(pos);
+                int index = Arrays.binarySearch(node.iChars, iIgnoreCase ? foldCase(c) : c);
+                if (index < 0) {
+                    break;
+                }
+                node = node.iChildren[index];
+            }
+            return matched;
+        }
+
+        /**
+         * Folds the case of a character, in the same way as
+         * {@link String#equalsIgnoreCase(String)}.
+         */
+        static char foldCase(char c) {
+            return Character.toLowerCase(Character.toUpperCase(c));
+        }
+
+        /**
+         * Folds the case of each character of a key.
+         */
+        static String foldCase(String key) {
+            char[] chars = key.toCharArray();
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = foldCase(chars[i]);
+            }
+            return new String(chars);
+        }
+
+        static final class Node<V> {
+            private final int iLength;
+            private final boolean iTerminal;
+            private final V iValue;
+            private final char[] iChars;
+            private final Node<V>[] iChildren;
+
+            Node(int length, boolean terminal, V value, char[] chars, Node<V>[] children) {
+                super();
+                iLength = length;
+                iTerminal = terminal;
+                iValue = value;
+                iChars = chars;
+                iChildren = children;
+            }
+
+            /**
+             * Gets the length of the key ending at this node.
+             */
+            int getLength() {
+                return iLength;
+            }
+
+            /**
+             * Gets the value of the key ending at this node.
+             */
+            V getValue() {
+                return iValue;
+            }
+        }
+    }
+
     static boolean csStartsWith(CharSequence text, int position, String search) {
         int searchLen = search.length();
         if ((text.length() - position) < searchLen) {
@@ -0,0 +1,83 @@
+/*
+ *  Copyright 2001-2015 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.format;
+
+import java.util.Locale;
+
+import org.joda.time.Chronology;
+
+/**
+ * Holds the state of a parse by {@link DateTimeFormatter}, allowing it to be
+ * re-used by many parses.
+ * <p>
+ * A context is passed to the {@code parseMillis} methods of a formatter that accept one.
+ * The state of the last parse is kept, and re-used by the next parse with the same
+ * chronology, zone, locale, pivot year and default year, which may be by any formatter.
+ * Once warmed up, a formatter with fixed width fields parses to millis without allocating.
+ * A formatter that is not passed a context creates new state for each parse.
+ * <p>
+ * The state is held only by the context, thus it can be discarded along with the context.
+ * A context that is to be held for the life of a thread, for example in a {@code ThreadLocal},
+ * should be removed from the thread by the caller once it is no longer needed.
+ * <p>
+ * DateTimeParseContext is mutable and not thread-safe.
+ *
+ * @since 2.8
+ */
+public final class DateTimeParseContext {
+
+    /** The bucket of the last parse, null if none. */
+    private DateTimeParserBucket iBucket;
+
+    /**
+     * Creates a context with no state.
+     */
+    public DateTimeParseContext() {
+        super();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Clears the state kept from the last parse.
+     */
+    public void clear() {
+        iBucket = null;
+    }
+
+    /**
+     * Gets a bucket to parse with, re-using the bucket of the last parse if possible.
+     * The bucket must be released once parsing is complete.
+     *
+     * @param chrono  the chronology to parse with, not null
+     * @param locale  the locale to parse with, null means default
+     * @param pivotYear  the pivot year to use when parsing two-digit years
+     * @param defaultYear  the default year to use when parsing month-day
+     * @return the acquired bucket, not null
+     */
+    DateTimeParserBucket obtainBucket(Chronology chrono, Locale locale, Integer pivotYear, int defaultYear) {
+        DateTimeParserBucket last = iBucket;
+        if (last != null && last.acquire(chrono, locale, pivotYear, defaultYear)) {
+            return last;
+        }
+        // a bucket already in use is a nested parse, which must not replace it
+        DateTimeParserBucket bucket = new DateTimeParserBucket(0, chrono, locale, pivotYear, defaultYear);
+        if (bucket.acquire(chrono, locale, pivotYear, defaultYear) && (last == null || !last.isInUse())) {
+            iBucket = bucket;
+        }
+        return bucket;
+    }
+
+}
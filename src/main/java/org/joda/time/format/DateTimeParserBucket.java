@@ -70,8 +70,10 @@ public class DateTimeParserBucket {
 
     /** The parsed zone, initialised to formatter zone. */
     private DateTimeZone iZone;
-    /** The parsed offset. */
-    private Integer iOffset;
+    /** The parsed offset, held unboxed to avoid allocation. */
+    private int iOffset;
+    /** Whether an offset has been parsed. */
+    private boolean iOffsetParsed;
     /** Used for parsing two-digit years. */
     private Integer iPivotYear;
 
@@ -80,6 +82,12 @@ public class DateTimeParserBucket {
     private boolean iSavedFieldsShared;
     
     private Object iSavedState;
+    /** Whether the bucket is in use by a formatter, see {@link #acquire}. */
+    private boolean iInUse;
+    /** The result of {@link #computeMillisQuietly}. */
+    private long iComputedMillis;
+    /** Whether {@link #computeMillisQuietly} found an invalid field or instant. */
+    private boolean iComputeFailed;
 
     /**
      * Constructs a bucket.
@@ -148,7 +156,8 @@ public class DateTimeParserBucket {
      */
     public void reset() {
         iZone = iDefaultZone;
-        iOffset = null;
+        iOffset = 0;
+        iOffsetParsed = false;
         iPivotYear = iDefaultPivotYear;
         iSavedFieldsCount = 0;
         iSavedFieldsShared = false;
@@ -175,6 +184,51 @@ public class DateTimeParserBucket {
         return doParseMillis(DateTimeParserInternalParser.of(parser), text);
     }
 
+    /**
+     * Acquires this bucket for a parse by a formatter, resetting it.
+     * <p>
+     * This succeeds only if the bucket is not already in use and was created with
+     * the same settings, allowing a formatter to re-use a bucket held per thread.
+     * A bucket that is acquired must be released once the parse is complete.
+     * 
+     * @param chrono  the chronology to parse with, not null
+     * @param locale  the locale to parse with, null means default
+     * @param pivotYear  the pivot year to use when parsing two-digit years
+     * @param defaultYear  the default year to use when parsing month-day
+     * @return true if the bucket was acquired
+     */
+    boolean acquire(Chronology chrono, Locale locale, Integer pivotYear, int defaultYear) {
+        if (iInUse || iMillis != 0 || iDefaultYear != defaultYear ||
+                iDefaultZone != chrono.getZone() || iChrono != chrono.withUTC()) {
+            return false;
+        }
+        if (pivotYear == null ? iDefaultPivotYear != null : !pivotYear.equals(iDefaultPivotYear)) {
+            return false;
+        }
+        if (!iLocale.equals(locale == null ? Locale.getDefault() : locale)) {
+            return false;
+        }
+        reset();
+        iInUse = true;
+        return true;
+    }
+
+    /**
+     * Releases this bucket once a parse by a formatter is complete.
+     */
+    void release() {
+        iInUse = false;
+    }
+
+    /**
+     * Checks whether this bucket is in use by a formatter.
+     * 
+     * @return true if acquired and not yet released
+     */
+    boolean isInUse() {
+        return iInUse;
+    }
+
     long doParseMillis(InternalParser parser, CharSequence text) {
         int newPos = parser.parseInto(this, text, 0);
         if (newPos >= 0) {
@@ -228,14 +282,14 @@ public class DateTimeParserBucket {
      */
     @Deprecated
     public int getOffset() {
-        return (iOffset != null ? iOffset : 0);
+        return iOffset;
     }
 
     /**
      * Returns the time zone offset in milliseconds used by computeMillis.
      */
     public Integer getOffsetInteger() {
-        return iOffset;
+        return (iOffsetParsed ? Integer.valueOf(iOffset) : null);
     }
 
     /**
@@ -244,16 +298,29 @@ public class DateTimeParserBucket {
      */
     @Deprecated
     public void setOffset(int offset) {
-        iSavedState = null;
-        iOffset = offset;
+        setOffsetMillis(offset);
     }
 
     /**
      * Set a time zone offset to be used when computeMillis is called.
      */
     public void setOffset(Integer offset) {
+        if (offset == null) {
+            iSavedState = null;
+            iOffset = 0;
+            iOffsetParsed = false;
+        } else {
+            setOffsetMillis(offset);
+        }
+    }
+
+    /**
+     * Set a time zone offset to be used when computeMillis is called, without boxing.
+     */
+    void setOffsetMillis(int offset) {
         iSavedState = null;
         iOffset = offset;
+        iOffsetParsed = true;
     }
 
     //-----------------------------------------------------------------------
@@ -422,6 +489,38 @@ public class DateTimeParserBucket {
      * @since 2.4
      */
     public long computeMillis(boolean resetFields, CharSequence text) {
+        return doComputeMillis(resetFields, text, false);
+    }
+
+    /**
+     * Computes the parsed datetime by setting the saved fields, without throwing
+     * an exception if a field value or the resulting instant is invalid.
+     * <p>
+     * Each value is checked using {@link DateTimeField#isValidValueForSet} before it
+     * is set, which rejects values only invalid in context, such as the 30th of
+     * February, once the month and year are set. A value the field accepts there,
+     * or saved text, may still be rejected when set, in which case the exception
+     * is caught.
+     *
+     * @param resetFields false by default, but when true, unsaved field values are cleared
+     * @return true if valid, with the result available from {@link #getComputedMillis()}
+     */
+    boolean computeMillisQuietly(boolean resetFields) {
+        iComputeFailed = false;
+        iComputedMillis = doComputeMillis(resetFields, null, true);
+        return !iComputeFailed;
+    }
+
+    /**
+     * Gets the result of the last successful call to {@link #computeMillisQuietly}.
+     *
+     * @return milliseconds since 1970-01-01T00:00:00Z
+     */
+    long getComputedMillis() {
+        return iComputedMillis;
+    }
+
+    private long doComputeMillis(boolean resetFields, CharSequence text, boolean quiet) {
         SavedField[] savedFields = iSavedFields;
         int count = iSavedFieldsCount;
         if (iSavedFieldsShared) {
@@ -437,13 +536,17 @@ public class DateTimeParserBucket {
             DurationField first = savedFields[0].iField.getDurationField();
             if (compareReverse(first, months) >= 0 && compareReverse(first, days) <= 0) {
                 saveField(DateTimeFieldType.year(), iDefaultYear);
-                return computeMillis(resetFields, text);
+                return doComputeMillis(resetFields, text, quiet);
             }
         }
 
         long millis = iMillis;
         try {
             for (int i = 0; i < count; i++) {
+                if (quiet && !savedFields[i].isValid(millis)) {
+                    iComputeFailed = true;
+                    return 0;
+                }
                 millis = savedFields[i].set(millis, resetFields);
             }
             if (resetFields) {
@@ -451,19 +554,28 @@ public class DateTimeParserBucket {
                     millis = savedFields[i].set(millis, i == (count - 1));
                 }
             }
-        } catch (IllegalFieldValueException e) {
-            if (text != null) {
-                e.prependMessage("Cannot parse \"" + text + '"');
+        } catch (IllegalArgumentException e) {
+            if (quiet) {
+                // a value the field rejected only when set
+                iComputeFailed = true;
+                return 0;
+            }
+            if (text != null && e instanceof IllegalFieldValueException) {
+                ((IllegalFieldValueException) e).prependMessage("Cannot parse \"" + text + '"');
             }
             throw e;
         }
         
-        if (iOffset != null) {
+        if (iOffsetParsed) {
             millis -= iOffset;
         } else if (iZone != null) {
             int offset = iZone.getOffsetFromLocal(millis);
             millis -= offset;
             if (offset != iZone.getOffset(millis)) {
+                if (quiet) {
+                    iComputeFailed = true;
+                    return 0;
+                }
                 String message = "Illegal instant due to time zone offset transition (" + iZone + ')';
                 if (text != null) {
                     message = "Cannot parse \"" + text + "\": " + message;
@@ -509,13 +621,15 @@ public class DateTimeParserBucket {
 
     class SavedState {
         final DateTimeZone iZone;
-        final Integer iOffset;
+        final int iOffset;
+        final boolean iOffsetParsed;
         final SavedField[] iSavedFields;
         final int iSavedFieldsCount;
         
         SavedState() {
             this.iZone = DateTimeParserBucket.this.iZone;
             this.iOffset = DateTimeParserBucket.this.iOffset;
+            this.iOffsetParsed = DateTimeParserBucket.this.iOffsetParsed;
             this.iSavedFields = DateTimeParserBucket.this.iSavedFields;
             this.iSavedFieldsCount = DateTimeParserBucket.this.iSavedFieldsCount;
         }
@@ -527,6 +641,7 @@ public class DateTimeParserBucket {
             }
             enclosing.iZone = this.iZone;
             enclosing.iOffset = this.iOffset;
+            enclosing.iOffsetParsed = this.iOffsetParsed;
             enclosing.iSavedFields = this.iSavedFields;
             if (this.iSavedFieldsCount < enclosing.iSavedFieldsCount) {
                 // Since count is being restored to a lower count, the
@@ -563,6 +678,18 @@ public class DateTimeParserBucket {
             iLocale = locale;
         }
         
+        /**
+         * Checks whether the value can be set at the instant, without throwing an exception.
+         * <p>
+         * Saved text is left to the field to convert when set.
+         *
+         * @param millis  the instant the value is to be set in
+         * @return false if the value would be rejected when set
+         */
+        boolean isValid(long millis) {
+            return iText != null || iField.isValidValueForSet(millis, iValue);
+        }
+
         long set(long millis, boolean reset) {
             if (iText == null) {
                 millis = iField.set(millis, iValue);
@@ -0,0 +1,97 @@
+/*
+ *  Copyright 2001-2015 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.format;
+
+/**
+ * Holds the working state of a print by {@link DateTimeFormatter}, allowing it to be
+ * re-used by many prints.
+ * <p>
+ * A context is passed to the {@code printTo} methods of a formatter that accept one.
+ * A formatter printing several of the year, month, day, hour, minute, second and
+ * millisecond fields obtains them together, and holds them in the context rather
+ * than in a new array for each print. When printing bytes, the view of the bytes
+ * is also held. Once warmed up, a formatter of numeric fields prints bytes without
+ * allocating. A formatter that is not passed a context creates new state for each print.
+ * <p>
+ * DateTimePrintContext is mutable and not thread-safe.
+ *
+ * @since 2.8
+ */
+public final class DateTimePrintContext {
+
+    /** The bytes viewed when not printing. */
+    private static final byte[] NO_BYTES = new byte[0];
+
+    /** The values of the standard fields of the instant being printed. */
+    private final int[] iFieldValues = new int[7];
+    /** The view of the bytes being printed into. */
+    private final AsciiBytes iBytes = new AsciiBytes(NO_BYTES, 0, 0);
+    /** Whether a print is using this context. */
+    private boolean iInUse;
+
+    /**
+     * Creates a context.
+     */
+    public DateTimePrintContext() {
+        super();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Acquires this context for a print by a formatter.
+     * <p>
+     * This fails if the context is in use, which happens when a print is nested
+     * within another, for example by a custom printer.
+     * A context that is acquired must be released once the print is complete.
+     *
+     * @return true if acquired
+     */
+    boolean acquire() {
+        if (iInUse) {
+            return false;
+        }
+        iInUse = true;
+        return true;
+    }
+
+    /**
+     * Releases this context once a print by a formatter is complete.
+     */
+    void release() {
+        // don't keep the bytes printed into reachable
+        iBytes.setBytes(NO_BYTES, 0, 0);
+        iInUse = false;
+    }
+
+    /**
+     * Gets the array to hold the field values of the instant being printed.
+     *
+     * @return the array of seven values, not null
+     */
+    int[] getFieldValues() {
+        return iFieldValues;
+    }
+
+    /**
+     * Gets the view to print bytes into.
+     *
+     * @return the view, to be set to the bytes before printing, not null
+     */
+    AsciiBytes getBytes() {
+        return iBytes;
+    }
+
+}
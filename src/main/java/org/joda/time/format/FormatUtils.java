@@ -106,7 +106,25 @@ public class FormatUtils {
             for (; size > digits; size--) {
                 appenadble.append('0');
             }
-            appenadble.append(Integer.toString(value));
+            appendDigits(appenadble, value);
+        }
+    }
+
+    /**
+     * Appends the digits of a value of at least 100, without creating a string.
+     *
+     * @param appendable receives the digits
+     * @param value value to append, at least 100
+     */
+    private static void appendDigits(Appendable appendable, int value) throws IOException {
+        int divisor = 100;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            int digit = value / divisor;
+            appendable.append((char) (digit + '0'));
+            value -= digit * divisor;
         }
     }
 
@@ -308,7 +326,7 @@ public class FormatUtils {
             // Append remainder by calculating (value - d * 10).
             appendable.append((char) (value - (d << 3) - (d << 1) + '0'));
         } else {
-            appendable.append(Integer.toString(value));
+            appendDigits(appendable, value);
         }
     }
 
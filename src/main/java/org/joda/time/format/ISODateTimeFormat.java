@@ -1452,9 +1452,10 @@ public class ISODateTimeFormat {
                     .append(timeElementParser())
                     .appendOptional(offsetElement().getParser())
                     .toParser();
-                return new DateTimeFormatterBuilder()
+                DateTimeFormatter general = new DateTimeFormatterBuilder()
                     .append(null, new DateTimeParser[] {time, dateOptionalTimeParser().getParser()})
                     .toFormatter();
+                return new DateTimeFormatter(null, new ISOExtendedDateTimeParser(general.getParser0(), true));
             }
             return dtp;
         }
@@ -1466,10 +1467,11 @@ public class ISODateTimeFormat {
                     .appendOptional(timeElementParser().getParser())
                     .appendOptional(offsetElement().getParser())
                     .toParser();
-                return new DateTimeFormatterBuilder()
+                DateTimeFormatter general = new DateTimeFormatterBuilder()
                     .append(dateElementParser())
                     .appendOptional(timeOrOffset)
                     .toFormatter();
+                return new DateTimeFormatter(null, new ISOExtendedDateTimeParser(general.getParser0(), true));
             }
             return dotp;
         }
@@ -1480,10 +1482,11 @@ public class ISODateTimeFormat {
                     .appendLiteral('T')
                     .append(timeElementParser())
                     .toParser();
-                return new DateTimeFormatterBuilder()
+                DateTimeFormatter general = new DateTimeFormatterBuilder()
                     .append(dateElementParser())
                     .appendOptional(time)
-                    .toFormatter().withZoneUTC();
+                    .toFormatter();
+                return new DateTimeFormatter(null, new ISOExtendedDateTimeParser(general.getParser0(), false)).withZoneUTC();
             }
             return ldotp;
         }
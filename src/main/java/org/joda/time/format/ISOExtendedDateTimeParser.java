@@ -0,0 +1,190 @@
+/*
+ *  Copyright 2001-2015 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.format;
+
+import org.joda.time.DateTimeConstants;
+import org.joda.time.DateTimeFieldType;
+
+/**
+ * Parses the common extended ISO-8601 forms in a single pass, falling back to
+ * a general parser for anything else.
+ * <p>
+ * The forms handled are {@code yyyy-MM-dd} and {@code yyyy-MM-ddTHH:mm[:ss[.SSSSSSSSS]]},
+ * optionally followed by an offset of {@code Z} or {@code +HH:mm}, all with exactly
+ * the stated number of digits and ending at the end of the text.
+ * These are parsed without the state saving of the general parser, which tries each
+ * alternative in turn. The fields saved are those the general parser would save,
+ * thus the result is the same. Text in any other form, including text that is
+ * invalid, is passed to the general parser.
+ * <p>
+ * ISOExtendedDateTimeParser is thread-safe and immutable.
+ *
+ * @since 2.8
+ */
+class ISOExtendedDateTimeParser implements InternalParser {
+
+    /** The general parser. */
+    private final InternalParser iParser;
+    /** Whether an offset may follow the time. */
+    private final boolean iOffset;
+
+    /**
+     * Constructor.
+     *
+     * @param parser  the general parser, that accepts all the forms handled here, not null
+     * @param offset  whether an offset may follow the time
+     */
+    ISOExtendedDateTimeParser(InternalParser parser, boolean offset) {
+        super();
+        iParser = parser;
+        iOffset = offset;
+    }
+
+    //-----------------------------------------------------------------------
+    public int estimateParsedLength() {
+        return iParser.estimateParsedLength();
+    }
+
+    public int parseInto(DateTimeParserBucket bucket, CharSequence text, int position) {
+        int newPos = parseExtended(bucket, text, position);
+        if (newPos >= 0) {
+            return newPos;
+        }
+        return iParser.parseInto(bucket, text, position);
+    }
+
+    /**
+     * Parses the common extended form, saving nothing unless the whole text matches.
+     *
+     * @return the end of the text, or -1 if the text is not in the common form
+     */
+    private int parseExtended(DateTimeParserBucket bucket, CharSequence text, int position) {
+        int length = text.length();
+        if (length - position < 10 || text.charAt(position + 4) != '-' || text.charAt(position + 7) != '-') {
+            return -1;
+        }
+        int year = parseDigits(text, position, 4);
+        int month = parseDigits(text, position + 5, 2);
+        int day = parseDigits(text, position + 8, 2);
+        if ((year | month | day) < 0) {
+            return -1;
+        }
+        int pos = position + 10;
+        if (pos == length) {
+            bucket.saveField(DateTimeFieldType.year(), year);
+            bucket.saveField(DateTimeFieldType.monthOfYear(), month);
+            bucket.saveField(DateTimeFieldType.dayOfMonth(), day);
+            return length;
+        }
+
+        // time
+        if (length - pos < 6 || text.charAt(pos) != 'T' || text.charAt(pos + 3) != ':') {
+            return -1;
+        }
+        int hour = parseDigits(text, pos + 1, 2);
+        int minute = parseDigits(text, pos + 4, 2);
+        if ((hour | minute) < 0) {
+            return -1;
+        }
+        pos += 6;
+        int second = -1;
+        int millis = -1;
+        if (pos < length && text.charAt(pos) == ':') {
+            if (length - pos < 3 || (second = parseDigits(text, pos + 1, 2)) < 0) {
+                return -1;
+            }
+            pos += 3;
+            if (pos < length && text.charAt(pos) == '.') {
+                // as per the fraction parser, truncating digits beyond millis
+                long value = 0;
+                long n = DateTimeConstants.MILLIS_PER_SECOND * 10L;
+                int start = ++pos;
+                while (pos < length && pos - start < 9) {
+                    char c = text.charAt(pos);
+                    if (c < '0' || c > '9') {
+                        break;
+                    }
+                    pos++;
+                    n /= 10;
+                    value += (c - '0') * n;
+                }
+                if (pos == start) {
+                    return -1;
+                }
+                millis = (int) (value / 10);
+            }
+        }
+
+        // offset
+        boolean offsetParsed = false;
+        int offset = 0;
+        if (pos < length && iOffset) {
+            char c = text.charAt(pos);
+            if (c == 'Z' && pos + 1 == length) {
+                offsetParsed = true;
+                pos++;
+            } else if ((c == '+' || c == '-') && pos + 6 == length && text.charAt(pos + 3) == ':') {
+                int offsetHours = parseDigits(text, pos + 1, 2);
+                int offsetMinutes = parseDigits(text, pos + 4, 2);
+                if (offsetHours < 0 || offsetHours > 23 || offsetMinutes < 0 || offsetMinutes > 59) {
+                    return -1;
+                }
+                offset = offsetHours * DateTimeConstants.MILLIS_PER_HOUR +
+                    offsetMinutes * DateTimeConstants.MILLIS_PER_MINUTE;
+                offset = (c == '-' ? -offset : offset);
+                offsetParsed = true;
+                pos += 6;
+            }
+        }
+        if (pos != length) {
+            return -1;
+        }
+
+        bucket.saveField(DateTimeFieldType.year(), year);
+        bucket.saveField(DateTimeFieldType.monthOfYear(), month);
+        bucket.saveField(DateTimeFieldType.dayOfMonth(), day);
+        bucket.saveField(DateTimeFieldType.hourOfDay(), hour);
+        bucket.saveField(DateTimeFieldType.minuteOfHour(), minute);
+        if (second >= 0) {
+            bucket.saveField(DateTimeFieldType.secondOfMinute(), second);
+        }
+        if (millis >= 0) {
+            bucket.saveField(DateTimeFieldType.millisOfSecond(), millis);
+        }
+        if (offsetParsed) {
+            bucket.setOffsetMillis(offset);
+        }
+        return length;
+    }
+
+    /**
+     * Parses a fixed number of ASCII digits.
+     *
+     * @return the value, or -1 if any character is not a digit
+     */
+    private static int parseDigits(CharSequence text, int position, int digits) {
+        int value = 0;
+        for (int i = position, end = position + digits; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+}
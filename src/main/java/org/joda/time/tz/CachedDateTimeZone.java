@@ -15,6 +15,9 @@
  */
 package org.joda.time.tz;
 
+import java.util.Arrays;
+
+import org.joda.time.DateTimeConstants;
 import org.joda.time.DateTimeZone;
 
 /**
@@ -22,6 +25,14 @@ import org.joda.time.DateTimeZone;
  * caching the results. Time zones that have simple rules or are fixed should
  * not be cached, as it is unlikely to improve performance.
  * <p>
+ * Instants within a range of years are looked up in a flat table of the
+ * transitions in that range, built when first needed. By default the range
+ * is from the start of 1970 to the start of 2039, and it can be changed using the system properties
+ * {@code org.joda.time.tz.CachedDateTimeZone.tableStartYear} and
+ * {@code org.joda.time.tz.CachedDateTimeZone.tableEndYear} (exclusive).
+ * Setting the end year no later than the start year disables the table.
+ * Other instants are cached by period.
+ * <p>
  * CachedDateTimeZone is thread-safe and immutable.
  * 
  * @author Brian S O'Neill
@@ -32,6 +43,8 @@ public class CachedDateTimeZone extends DateTimeZone {
     private static final long serialVersionUID = 5472298452022250685L;
 
     private static final int cInfoCacheMask;
+    private static final long cTableStart;
+    private static final long cTableEnd;
 
     static {
         Integer i;
@@ -59,6 +72,40 @@ public class CachedDateTimeZone extends DateTimeZone {
         }
 
         cInfoCacheMask = cacheSize - 1;
+
+        Integer start;
+        Integer end;
+        try {
+            start = Integer.getInteger("org.joda.time.tz.CachedDateTimeZone.tableStartYear");
+            end = Integer.getInteger("org.joda.time.tz.CachedDateTimeZone.tableEndYear");
+        } catch (SecurityException e) {
+            start = null;
+            end = null;
+        }
+
+        // By default, the table covers the same 69 year span as the default
+        // period cache, starting at 1970.
+        int startYear = (start == null ? 1970 : start.intValue());
+        int endYear = (end == null ? startYear + 69 : end.intValue());
+        if (startYear < 1 || endYear > 9999 || startYear >= endYear) {
+            // Table disabled.
+            cTableStart = 0;
+            cTableEnd = 0;
+        } else {
+            cTableStart = yearStartMillis(startYear);
+            cTableEnd = yearStartMillis(endYear);
+        }
+    }
+
+    /**
+     * Calculates the UTC millis of the start of a positive ISO year without
+     * using a chronology, which is not yet safe to use during class loading.
+     */
+    private static long yearStartMillis(int year) {
+        int y = year - 1;
+        long leapYears = (y / 4 - y / 100 + y / 400) - (1969 / 4 - 1969 / 100 + 1969 / 400);
+        long days = 365L * (year - 1970) + leapYears;
+        return days * DateTimeConstants.MILLIS_PER_DAY;
     }
 
     /**
@@ -83,6 +130,8 @@ public class CachedDateTimeZone extends DateTimeZone {
 
     private final transient Info[] iInfoCache = new Info[cInfoCacheMask + 1];
 
+    private transient volatile Table iTable;
+
     private CachedDateTimeZone(DateTimeZone zone) {
         super(zone.getID());
         iZone = zone;
@@ -96,14 +145,26 @@ public class CachedDateTimeZone extends DateTimeZone {
     }
 
     public String getNameKey(long instant) {
+        if (instant >= cTableStart && instant < cTableEnd) {
+            Table table = getTable();
+            return table.iNameKeys[table.indexOf(instant)];
+        }
         return getInfo(instant).getNameKey(instant);
     }
 
     public int getOffset(long instant) {
+        if (instant >= cTableStart && instant < cTableEnd) {
+            Table table = getTable();
+            return table.iOffsets[table.indexOf(instant)];
+        }
         return getInfo(instant).getOffset(instant);
     }
 
     public int getStandardOffset(long instant) {
+        if (instant >= cTableStart && instant < cTableEnd) {
+            Table table = getTable();
+            return table.iStandardOffsets[table.indexOf(instant)];
+        }
         return getInfo(instant).getStandardOffset(instant);
     }
 
@@ -119,6 +180,10 @@ public class CachedDateTimeZone extends DateTimeZone {
         return iZone.previousTransition(instant);
     }
 
+    public TransitionCursor transitionCursor(long start, long end) {
+        return iZone.transitionCursor(start, end);
+    }
+
     public int hashCode() {
         return iZone.hashCode();
     }
@@ -166,6 +231,66 @@ public class CachedDateTimeZone extends DateTimeZone {
         return info;
     }
 
+    private Table getTable() {
+        Table table = iTable;
+        if (table == null) {
+            // Racing threads build equal tables, so no need to synchronize.
+            table = new Table(iZone, cTableStart, cTableEnd);
+            iTable = table;
+        }
+        return table;
+    }
+
+    /**
+     * The transitions within a range of instants, held in parallel arrays.
+     * The first entry is the start of the range rather than a transition.
+     */
+    private final static class Table {
+        private final long[] iStarts;
+        private final int[] iOffsets;
+        private final int[] iStandardOffsets;
+        private final String[] iNameKeys;
+
+        Table(DateTimeZone zone, long start, long end) {
+            long[] starts = new long[128];
+            int size = 0;
+            long millis = start;
+            while (true) {
+                if (size == starts.length) {
+                    long[] copy = new long[size * 2];
+                    System.arraycopy(starts, 0, copy, 0, size);
+                    starts = copy;
+                }
+                starts[size++] = millis;
+                long next = zone.nextTransition(millis);
+                if (next <= millis || next >= end) {
+                    break;
+                }
+                millis = next;
+            }
+
+            iStarts = new long[size];
+            System.arraycopy(starts, 0, iStarts, 0, size);
+            iOffsets = new int[size];
+            iStandardOffsets = new int[size];
+            iNameKeys = new String[size];
+            for (int i = 0; i < size; i++) {
+                iOffsets[i] = zone.getOffset(iStarts[i]);
+                iStandardOffsets[i] = zone.getStandardOffset(iStarts[i]);
+                iNameKeys[i] = zone.getNameKey(iStarts[i]);
+            }
+        }
+
+        /**
+         * Finds the index of the entry in effect at the instant, which must
+         * be within the range of the table.
+         */
+        int indexOf(long instant) {
+            int index = Arrays.binarySearch(iStarts, instant);
+            return (index >= 0 ? index : ~index - 1);
+        }
+    }
+
     private final static class Info {
         // For first Info in chain, iPeriodStart's lower 32 bits are clear.
         public final long iPeriodStart;
@@ -1170,9 +1170,20 @@ public class DateTimeZoneBuilder {
                                Recurrence.readFrom(in), Recurrence.readFrom(in));
         }
 
+        /**
+         * The shift converting an instant to its cache period, a little over a year.
+         */
+        private static final int PERIOD_SHIFT = 35;
+        /**
+         * The number of cached periods from 1970, reaching beyond the year 2500.
+         */
+        private static final int PERIOD_COUNT = 512;
+
         final int iStandardOffset;
         final Recurrence iStartRecurrence;
         final Recurrence iEndRecurrence;
+        /** The transitions in each period, filled in lazily. */
+        private transient YearTransitions[] iPeriods;
 
         DSTZone(String id, int standardOffset,
                 Recurrence startRecurrence, Recurrence endRecurrence) {
@@ -1199,6 +1210,20 @@ public class DateTimeZoneBuilder {
         }
 
         public long nextTransition(long instant) {
+            if (instant >= 0) {
+                for (int period = (int) (instant >> PERIOD_SHIFT); period < PERIOD_COUNT; period++) {
+                    long[] transitions = getYearTransitions(period).iTransitions;
+                    for (int i = 0; i < transitions.length; i++) {
+                        if (transitions[i] > instant) {
+                            return transitions[i];
+                        }
+                    }
+                }
+            }
+            return calculateNextTransition(instant);
+        }
+
+        private long calculateNextTransition(long instant) {
             int standardOffset = iStandardOffset;
             Recurrence startRecurrence = iStartRecurrence;
             Recurrence endRecurrence = iEndRecurrence;
@@ -1239,6 +1264,20 @@ public class DateTimeZoneBuilder {
         }
 
         public long previousTransition(long instant) {
+            if (instant >= 0 && (instant >> PERIOD_SHIFT) < PERIOD_COUNT) {
+                for (int period = (int) (instant >> PERIOD_SHIFT); period >= 0; period--) {
+                    long[] transitions = getYearTransitions(period).iTransitions;
+                    for (int i = transitions.length - 1; i >= 0; i--) {
+                        if (transitions[i] <= instant) {
+                            return transitions[i] - 1;
+                        }
+                    }
+                }
+            }
+            return calculatePreviousTransition(instant);
+        }
+
+        private long calculatePreviousTransition(long instant) {
             // Increment in order to handle the case where instant is exactly at
             // a transition.
             instant++;
@@ -1304,6 +1343,61 @@ public class DateTimeZoneBuilder {
         }
 
         private Recurrence findMatchingRecurrence(long instant) {
+            if (instant >= 0 && (instant >> PERIOD_SHIFT) < PERIOD_COUNT) {
+                YearTransitions year = getYearTransitions((int) (instant >> PERIOD_SHIFT));
+                long[] transitions = year.iTransitions;
+                int i = 0;
+                while (i < transitions.length && transitions[i] <= instant) {
+                    i++;
+                }
+                return year.iRecurrences[i];
+            }
+            return calculateMatchingRecurrence(instant);
+        }
+
+        /**
+         * Gets the transitions in a period, calculating them on first use.
+         * The cached objects are immutable, so races only cause extra work.
+         */
+        private YearTransitions getYearTransitions(int period) {
+            YearTransitions[] periods = iPeriods;
+            if (periods == null) {
+                periods = new YearTransitions[PERIOD_COUNT];
+                iPeriods = periods;
+            }
+            YearTransitions year = periods[period];
+            if (year == null) {
+                year = createYearTransitions(period);
+                periods[period] = year;
+            }
+            return year;
+        }
+
+        private YearTransitions createYearTransitions(int period) {
+            long start = ((long) period) << PERIOD_SHIFT;
+            long end = ((long) (period + 1)) << PERIOD_SHIFT;
+            ArrayList<Long> transitions = new ArrayList<Long>(4);
+            ArrayList<Recurrence> recurrences = new ArrayList<Recurrence>(4);
+            recurrences.add(calculateMatchingRecurrence(start));
+            long instant = start;
+            while (true) {
+                long next = calculateNextTransition(instant);
+                if (next <= instant || next >= end) {
+                    break;
+                }
+                transitions.add(Long.valueOf(next));
+                recurrences.add(calculateMatchingRecurrence(next));
+                instant = next;
+            }
+            long[] transitionArray = new long[transitions.size()];
+            for (int i = 0; i < transitionArray.length; i++) {
+                transitionArray[i] = transitions.get(i).longValue();
+            }
+            return new YearTransitions(transitionArray,
+                recurrences.toArray(new Recurrence[recurrences.size()]));
+        }
+
+        private Recurrence calculateMatchingRecurrence(long instant) {
             int standardOffset = iStandardOffset;
             Recurrence startRecurrence = iStartRecurrence;
             Recurrence endRecurrence = iEndRecurrence;
@@ -1334,6 +1428,21 @@ public class DateTimeZoneBuilder {
 
             return (start > end) ? startRecurrence : endRecurrence;
         }
+
+        /**
+         * The transitions within one period of a DSTZone.
+         */
+        private static final class YearTransitions {
+            /** The transitions in the period, in order. */
+            final long[] iTransitions;
+            /** The recurrence in effect at the period start, then after each transition. */
+            final Recurrence[] iRecurrences;
+
+            YearTransitions(long[] transitions, Recurrence[] recurrences) {
+                iTransitions = transitions;
+                iRecurrences = recurrences;
+            }
+        }
     }
 
     private static final class PrecalculatedZone extends DateTimeZone {
@@ -1618,6 +1727,10 @@ public class DateTimeZoneBuilder {
             return instant;
         }
 
+        public TransitionCursor transitionCursor(long start, long end) {
+            return new PrecalculatedCursor(this, start, end);
+        }
+
         public boolean equals(Object obj) {
             if (this == obj) {
                 return true;
@@ -1727,5 +1840,37 @@ public class DateTimeZoneBuilder {
 
             return false;
         }
+
+        /**
+         * Cursor stepping through the transition arrays by index, falling
+         * back to the tail zone once the arrays are exhausted.
+         */
+        private static final class PrecalculatedCursor extends TransitionCursor {
+            private final PrecalculatedZone iPrecalcZone;
+            /** The index of the next transition in the arrays. */
+            private int iIndex;
+
+            PrecalculatedCursor(PrecalculatedZone zone, long start, long end) {
+                super(zone, start, end);
+                iPrecalcZone = zone;
+                int i = Arrays.binarySearch(zone.iTransitions, start);
+                iIndex = (i >= 0) ? (i + 1) : ~i;
+            }
+
+            public boolean next() {
+                PrecalculatedZone zone = iPrecalcZone;
+                int i = iIndex;
+                if (i >= zone.iTransitions.length) {
+                    return super.next();
+                }
+                long instant = zone.iTransitions[i];
+                if (instant >= getEnd()) {
+                    return false;
+                }
+                setCurrent(instant, zone.iWallOffsets[i], zone.iStandardOffsets[i], zone.iNameKeys[i]);
+                iIndex = i + 1;
+                return true;
+            }
+        }
     }
 }
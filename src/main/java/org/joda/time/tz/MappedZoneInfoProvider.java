@@ -0,0 +1,270 @@
+/*
+ *  Copyright 2001-2015 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.tz;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.joda.time.DateTimeZone;
+
+/**
+ * MappedZoneInfoProvider loads time zones from a single database file
+ * as generated by {@link ZoneInfoCompiler} using the {@code -db} option.
+ * <p>
+ * The file is memory-mapped read-only when the provider is created.
+ * Each zone is decoded directly from the mapped buffer the first time it is
+ * requested, avoiding the per-zone resource lookup and stream of
+ * {@link ZoneInfoProvider}. Decoded zones are held by soft reference, but
+ * decoding again after the reference is cleared involves no I/O.
+ * As the file is mapped rather than read, the operating system can share
+ * the pages between all the JVMs on a host that use the same file.
+ * <p>
+ * The file starts with a header holding the magic number and version,
+ * followed by an index of zone data blocks and an index of id mappings.
+ * The remainder of the file holds the zone data blocks, each encoded as
+ * by {@link DateTimeZoneBuilder#writeTo(String, java.io.DataOutput)}.
+ * <p>
+ * MappedZoneInfoProvider is thread-safe and publicly immutable.
+ *
+ * @since 2.8
+ */
+public class MappedZoneInfoProvider implements Provider {
+
+    /** The magic number at the start of the file, 'JTZD'. */
+    static final int MAGIC = 0x4A545A44;
+    /** The version of the file format. */
+    static final int VERSION = 1;
+
+    /** The mapped file. */
+    private final ByteBuffer iBuffer;
+    /** Maps zone ids to the index of their data block. */
+    private final Map<String, Integer> iDataIndex;
+    /** The start of each data block within the buffer. */
+    private final int[] iDataOffsets;
+    /** The length of each data block. */
+    private final int[] iDataLengths;
+    /** Maps ids to strings or SoftReferences to DateTimeZones. */
+    private final Map<String, Object> iZoneInfoMap;
+    /** The available ids. */
+    private final Set<String> iZoneInfoKeys;
+
+    /**
+     * Creates a provider that maps the specified database file.
+     *
+     * @param file  the database file, not null
+     * @throws IOException if the file cannot be mapped or is invalid
+     */
+    public MappedZoneInfoProvider(File file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("No database file provided");
+        }
+        if (!file.isFile()) {
+            throw new IOException("Database file doesn't exist: " + file);
+        }
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Database file too large: " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            iBuffer = buffer.asReadOnlyBuffer();
+        } finally {
+            try {
+                raf.close();
+            } catch (IOException ex) {
+            }
+        }
+
+        DataInputStream din = new DataInputStream(new ByteBufferInputStream(iBuffer.duplicate()));
+        if (din.readInt() != MAGIC) {
+            throw new IOException("Invalid database file: " + file);
+        }
+        int version = din.readUnsignedShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported database file version " + version + ": " + file);
+        }
+
+        // Read the data block index.
+        int size = din.readUnsignedShort();
+        iDataIndex = new HashMap<String, Integer>(size * 2);
+        iDataOffsets = new int[size];
+        iDataLengths = new int[size];
+        String[] dataIds = new String[size];
+        for (int i = 0; i < size; i++) {
+            dataIds[i] = din.readUTF().intern();
+            iDataIndex.put(dataIds[i], Integer.valueOf(i));
+            iDataOffsets[i] = din.readInt();
+            iDataLengths[i] = din.readInt();
+        }
+
+        // Read the id mappings.
+        Map<String, Object> map = new ConcurrentHashMap<String, Object>();
+        int mappings = din.readUnsignedShort();
+        for (int i = 0; i < mappings; i++) {
+            String id = din.readUTF().intern();
+            int index = din.readUnsignedShort();
+            if (index >= size) {
+                throw new IOException("Corrupt database file: " + file);
+            }
+            map.put(id, dataIds[index]);
+        }
+        map.put("UTC", new SoftReference<DateTimeZone>(DateTimeZone.UTC));
+
+        // Data block offsets are relative to the end of the index.
+        int dataStart = iBuffer.capacity() - din.available();
+        for (int i = 0; i < iDataOffsets.length; i++) {
+            iDataOffsets[i] += dataStart;
+            if (iDataOffsets[i] < dataStart || iDataLengths[i] < 0 ||
+                    iDataOffsets[i] > iBuffer.capacity() - iDataLengths[i]) {
+                throw new IOException("Corrupt database file: " + file);
+            }
+        }
+
+        iZoneInfoMap = map;
+        iZoneInfoKeys = Collections.unmodifiableSortedSet(new TreeSet<String>(map.keySet()));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * If an error is thrown while loading zone data, the exception is logged
+     * to system error and null is returned for this and all future requests.
+     *
+     * @param id  the id to load
+     * @return the loaded zone
+     */
+    public DateTimeZone getZone(String id) {
+        if (id == null) {
+            return null;
+        }
+
+        Object obj = iZoneInfoMap.get(id);
+        if (obj == null) {
+            return null;
+        }
+
+        if (obj instanceof SoftReference<?>) {
+            @SuppressWarnings("unchecked")
+            SoftReference<DateTimeZone> ref = (SoftReference<DateTimeZone>) obj;
+            DateTimeZone tz = ref.get();
+            if (tz != null) {
+                return tz;
+            }
+            // Reference cleared; decode data again.
+            return loadZoneData(id);
+        } else if (id.equals(obj)) {
+            // Decode zone data for the first time.
+            return loadZoneData(id);
+        }
+
+        // If this point is reached, mapping must link to another.
+        return getZone((String) obj);
+    }
+
+    /**
+     * Gets a list of all the available zone ids.
+     *
+     * @return the zone ids
+     */
+    public Set<String> getAvailableIDs() {
+        return iZoneInfoKeys;
+    }
+
+    /**
+     * Called if an exception is thrown from getZone while loading zone data.
+     *
+     * @param ex  the exception
+     */
+    protected void uncaughtException(Exception ex) {
+        ex.printStackTrace();
+    }
+
+    /**
+     * Decodes the time zone data for one id from the mapped buffer.
+     *
+     * @param id  the id to load
+     * @return the zone
+     */
+    private DateTimeZone loadZoneData(String id) {
+        Integer index = iDataIndex.get(id);
+        try {
+            if (index == null) {
+                throw new IOException("Zone data not found: " + id);
+            }
+            int i = index.intValue();
+            ByteBuffer buf = iBuffer.duplicate();
+            buf.limit(iDataOffsets[i] + iDataLengths[i]);
+            buf.position(iDataOffsets[i]);
+            DateTimeZone tz = DateTimeZoneBuilder.readFrom(new ByteBufferInputStream(buf), id);
+            iZoneInfoMap.put(id, new SoftReference<DateTimeZone>(tz));
+            return tz;
+        } catch (IOException ex) {
+            uncaughtException(ex);
+            iZoneInfoMap.remove(id);
+            return null;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Input stream reading from a byte buffer without copying.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer iBuf;
+
+        ByteBufferInputStream(ByteBuffer buf) {
+            iBuf = buf;
+        }
+
+        public int read() {
+            if (!iBuf.hasRemaining()) {
+                return -1;
+            }
+            return iBuf.get() & 0xff;
+        }
+
+        public int read(byte[] bytes, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            int remaining = iBuf.remaining();
+            if (remaining == 0) {
+                return -1;
+            }
+            len = Math.min(len, remaining);
+            iBuf.get(bytes, off, len);
+            return len;
+        }
+
+        public int available() {
+            return iBuf.remaining();
+        }
+    }
+
+}
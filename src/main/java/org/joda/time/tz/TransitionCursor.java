@@ -0,0 +1,176 @@
+/*
+ *  Copyright 2001-2015 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.tz;
+
+import org.joda.time.DateTimeZone;
+
+/**
+ * Cursor over the transitions of a time zone between two instants.
+ * <p>
+ * When created, the cursor is positioned at the start instant, with the
+ * offsets and name key in effect at that instant. Each call to {@link #next()}
+ * moves the cursor to the next transition before the end instant:
+ * <pre>
+ * TransitionCursor cursor = zone.transitionCursor(start, end);
+ * record(cursor.getInstant(), cursor.getOffset());
+ * while (cursor.next()) {
+ *   record(cursor.getInstant(), cursor.getOffset());
+ * }
+ * </pre>
+ * The cursor keeps its position between steps, allowing zones to avoid
+ * searching for the current transition again on each step.
+ * This base implementation uses {@link DateTimeZone#nextTransition(long)},
+ * and zones may return subclasses that are more efficient.
+ * <p>
+ * TransitionCursor is mutable and not thread-safe.
+ *
+ * @since 2.8
+ */
+public class TransitionCursor {
+
+    /** The zone. */
+    private final DateTimeZone iZone;
+    /** The end instant, exclusive. */
+    private final long iEnd;
+    /** The current instant. */
+    private long iInstant;
+    /** The offset at the current instant. */
+    private int iOffset;
+    /** The standard offset at the current instant. */
+    private int iStandardOffset;
+    /** The name key at the current instant. */
+    private String iNameKey;
+
+    /**
+     * Creates a cursor positioned at the start instant.
+     *
+     * @param zone  the zone to query, not null
+     * @param start  the start instant, inclusive
+     * @param end  the end instant, exclusive
+     * @throws IllegalArgumentException if the end is before the start
+     */
+    public TransitionCursor(DateTimeZone zone, long start, long end) {
+        super();
+        if (zone == null) {
+            throw new IllegalArgumentException("The zone must not be null");
+        }
+        if (end < start) {
+            throw new IllegalArgumentException("The end instant must be greater or equal to the start");
+        }
+        iZone = zone;
+        iEnd = end;
+        setCurrent(start, zone.getOffset(start), zone.getStandardOffset(start), zone.getNameKey(start));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Moves to the next transition before the end instant.
+     * If there is no such transition, the cursor is left unchanged.
+     *
+     * @return true if the cursor moved, false if there are no more transitions
+     */
+    public boolean next() {
+        long instant = iInstant;
+        long next = iZone.nextTransition(instant);
+        if (next <= instant || next >= iEnd) {
+            return false;
+        }
+        setCurrent(next, iZone.getOffset(next), iZone.getStandardOffset(next), iZone.getNameKey(next));
+        return true;
+    }
+
+    /**
+     * Sets the current position, for use by subclasses.
+     *
+     * @param instant  the instant of the transition
+     * @param offset  the offset from the transition
+     * @param standardOffset  the standard offset from the transition
+     * @param nameKey  the name key from the transition
+     */
+    protected final void setCurrent(long instant, int offset, int standardOffset, String nameKey) {
+        iInstant = instant;
+        iOffset = offset;
+        iStandardOffset = standardOffset;
+        iNameKey = nameKey;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the zone being queried.
+     * This may be the underlying zone of a {@link CachedDateTimeZone}.
+     *
+     * @return the zone, not null
+     */
+    public DateTimeZone getZone() {
+        return iZone;
+    }
+
+    /**
+     * Gets the end instant, exclusive.
+     *
+     * @return the end instant
+     */
+    public long getEnd() {
+        return iEnd;
+    }
+
+    /**
+     * Gets the current instant, which is the start instant or a transition.
+     *
+     * @return the current instant
+     */
+    public long getInstant() {
+        return iInstant;
+    }
+
+    /**
+     * Gets the offset in effect from the current instant.
+     *
+     * @return the millisecond offset to add to UTC to get local time
+     */
+    public int getOffset() {
+        return iOffset;
+    }
+
+    /**
+     * Gets the standard offset in effect from the current instant.
+     *
+     * @return the millisecond offset to add to UTC to get local standard time
+     */
+    public int getStandardOffset() {
+        return iStandardOffset;
+    }
+
+    /**
+     * Gets the name key in effect from the current instant.
+     *
+     * @return the name key
+     */
+    public String getNameKey() {
+        return iNameKey;
+    }
+
+    /**
+     * Gets a debugging string.
+     *
+     * @return the debugging string
+     */
+    public String toString() {
+        return "TransitionCursor[" + iZone.getID() + "," + iInstant + "," + iOffset + "," +
+            iStandardOffset + "," + iNameKey + "]";
+    }
+
+}
@@ -16,6 +16,7 @@
 package org.joda.time.tz;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -88,8 +89,10 @@ public class ZoneInfoCompiler {
      * where possible options include:
      *   -src &lt;directory&gt;    Specify where to read source files
      *   -dst &lt;directory&gt;    Specify where to write generated files
+     *   -db &lt;file&gt;          Specify a single database file to write
      *   -verbose            Output verbosely (default false)
      * </pre>
+     * The database file is read by {@link MappedZoneInfoProvider}.
      */
     public static void main(String[] args) throws Exception {
         if (args.length == 0) {
@@ -99,6 +102,7 @@ public class ZoneInfoCompiler {
 
         File inputDir = null;
         File outputDir = null;
+        File databaseFile = null;
         boolean verbose = false;
 
         int i;
@@ -108,6 +112,8 @@ public class ZoneInfoCompiler {
                     inputDir = new File(args[++i]);
                 } else if ("-dst".equals(args[i])) {
                     outputDir = new File(args[++i]);
+                } else if ("-db".equals(args[i])) {
+                    databaseFile = new File(args[++i]);
                 } else if ("-verbose".equals(args[i])) {
                     verbose = true;
                 } else if ("-?".equals(args[i])) {
@@ -134,7 +140,7 @@ public class ZoneInfoCompiler {
 
         cVerbose.set(verbose);
         ZoneInfoCompiler zic = new ZoneInfoCompiler();
-        zic.compile(outputDir, sources);
+        zic.compile(outputDir, databaseFile, sources);
     }
 
     private static void printUsage() {
@@ -142,6 +148,7 @@ public class ZoneInfoCompiler {
         System.out.println("where possible options include:");
         System.out.println("  -src <directory>    Specify where to read source files");
         System.out.println("  -dst <directory>    Specify where to write generated files");
+        System.out.println("  -db <file>          Specify a single database file to write");
         System.out.println("  -verbose            Output verbosely (default false)");
     }
 
@@ -205,6 +212,52 @@ public class ZoneInfoCompiler {
         }
     }
 
+    /**
+     * Writes the single file database read by {@link MappedZoneInfoProvider}.
+     * 
+     * @param dout  the output stream
+     * @param zimap  maps string ids to DateTimeZone objects
+     * @param zoneData  maps the ids of the zones to their encoded data
+     */
+    static void writeZoneInfoDatabase(DataOutputStream dout, Map<String, DateTimeZone> zimap,
+            Map<String, byte[]> zoneData) throws IOException {
+        dout.writeInt(MappedZoneInfoProvider.MAGIC);
+        dout.writeShort(MappedZoneInfoProvider.VERSION);
+
+        // Write the data block index, offsets are relative to the end of the index.
+        Map<String, Integer> idToIndex = new HashMap<String, Integer>(zoneData.size());
+        dout.writeShort(zoneData.size());
+        int offset = 0;
+        for (Entry<String, byte[]> entry : zoneData.entrySet()) {
+            idToIndex.put(entry.getKey(), Integer.valueOf(idToIndex.size()));
+            dout.writeUTF(entry.getKey());
+            dout.writeInt(offset);
+            dout.writeInt(entry.getValue().length);
+            offset += entry.getValue().length;
+        }
+
+        // Write the mappings.
+        int count = 0;
+        for (DateTimeZone zone : zimap.values()) {
+            if (idToIndex.containsKey(zone.getID())) {
+                count++;
+            }
+        }
+        dout.writeShort(count);
+        for (Entry<String, DateTimeZone> entry : zimap.entrySet()) {
+            Integer index = idToIndex.get(entry.getValue().getID());
+            if (index != null) {
+                dout.writeUTF(entry.getKey());
+                dout.writeShort(index.intValue());
+            }
+        }
+
+        // Write the data blocks.
+        for (byte[] data : zoneData.values()) {
+            dout.write(data);
+        }
+    }
+
     static int parseYear(String str, int def) {
         str = str.toLowerCase();
         if (str.equals("minimum") || str.equals("min")) {
@@ -365,6 +418,18 @@ public class ZoneInfoCompiler {
      * @param sources optional list of source files to parse
      */
     public Map<String, DateTimeZone> compile(File outputDir, File[] sources) throws IOException {
+        return compile(outputDir, null, sources);
+    }
+
+    /**
+     * Returns a map of ids to DateTimeZones.
+     *
+     * @param outputDir optional directory to write compiled data files to
+     * @param databaseFile optional single database file to write
+     * @param sources optional list of source files to parse
+     * @since 2.8
+     */
+    public Map<String, DateTimeZone> compile(File outputDir, File databaseFile, File[] sources) throws IOException {
         if (sources != null) {
             for (int i=0; i<sources.length; i++) {
                 BufferedReader in = new BufferedReader(new FileReader(sources[i]));
@@ -385,6 +450,7 @@ public class ZoneInfoCompiler {
         }
 
         Map<String, DateTimeZone> map = new TreeMap<String, DateTimeZone>();
+        Map<String, byte[]> zoneData = new TreeMap<String, byte[]>();
 
         System.out.println("Writing zoneinfo files");
         for (int i=0; i<iZones.size(); i++) {
@@ -420,6 +486,11 @@ public class ZoneInfoCompiler {
                                            ": Didn't read properly from file");
                     }
                 }
+                if (databaseFile != null) {
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    builder.writeTo(zone.iName, out);
+                    zoneData.put(tz.getID(), out.toByteArray());
+                }
             }
         }
 
@@ -458,6 +529,24 @@ public class ZoneInfoCompiler {
             }
         }
 
+        if (databaseFile != null) {
+            System.out.println("Writing database " + databaseFile);
+            if (databaseFile.getParentFile() != null && !databaseFile.getParentFile().exists()) {
+                databaseFile.getParentFile().mkdirs();
+            }
+
+            OutputStream out = new FileOutputStream(databaseFile);
+            DataOutputStream dout = new DataOutputStream(out);
+            try {
+                // Sort and filter out any duplicates that match case.
+                Map<String, DateTimeZone> zimap = new TreeMap<String, DateTimeZone>(String.CASE_INSENSITIVE_ORDER);
+                zimap.putAll(map);
+                writeZoneInfoDatabase(dout, zimap, zoneData);
+            } finally {
+                dout.close();
+            }
+        }
+
         return map;
     }
 
@@ -20,12 +20,16 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.ref.SoftReference;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.joda.time.DateTimeZone;
 
@@ -33,7 +37,28 @@ import org.joda.time.DateTimeZone;
  * ZoneInfoProvider loads compiled data files as generated by
  * {@link ZoneInfoCompiler}.
  * <p>
- * ZoneInfoProvider is thread-safe and publicly immutable.
+ * Loaded zones are held in a bounded cache, so frequently used zones are not
+ * lost to garbage collection and reloaded. When the cache is full, the least
+ * recently used zone is evicted.
+ * Zones can be pinned using {@link #pin(String)}, which loads the zone if
+ * necessary and prevents it from being evicted until {@link #unpin(String)}
+ * is called. Pinned zones do not count towards the cache size. UTC is always pinned.
+ * <p>
+ * Two system properties are read when the provider is created:
+ * <ul>
+ * <li>{@code org.joda.time.tz.ZoneInfoProvider.cacheSize} - the maximum number
+ *  of unpinned zones to cache, defaulting to 128 if not set or negative.
+ *  Zero disables caching of unpinned zones.
+ * <li>{@code org.joda.time.tz.ZoneInfoProvider.pinnedZones} - a comma separated
+ *  list of zone ids to load and pin, blank entries being ignored.
+ * </ul>
+ * If the properties cannot be read due to a security manager, the defaults are used.
+ * <p>
+ * Zones are loaded without locking the cache, so different zones can be loaded at
+ * the same time, while concurrent requests for the same zone share one load.
+ * <p>
+ * ZoneInfoProvider is thread-safe. It is mutable, as the cache contents and
+ * the set of pinned zones change as zones are requested, pinned and unpinned.
  *
  * @author Brian S O'Neill
  * @since 1.0
@@ -46,10 +71,27 @@ public class ZoneInfoProvider implements Provider {
     private final String iResourcePath;
     /** The class loader to use. */
     private final ClassLoader iLoader;
-    /** Maps ids to strings or SoftReferences to DateTimeZones. */
-    private final Map<String, Object> iZoneInfoMap;
-    /** Maps ids to strings or SoftReferences to DateTimeZones. */
+    /** Maps ids to the id of their data file. */
+    private final Map<String, String> iZoneInfoMap;
+    /** The available ids. */
     private final Set<String> iZoneInfoKeys;
+    /** Maps data file ids to the cached zones. */
+    private final Map<String, CacheEntry> iCache = new ConcurrentHashMap<String, CacheEntry>();
+    /** Maps data file ids to the zones being loaded. */
+    private final ConcurrentHashMap<String, FutureTask<DateTimeZone>> iLoading =
+            new ConcurrentHashMap<String, FutureTask<DateTimeZone>>();
+    /** The maximum number of unpinned zones to cache. */
+    private final int iCacheSize;
+    /** The number of unpinned zones in the cache, guarded by the cache. */
+    private int iUnpinnedCount;
+    /** The clock used to find the least recently used zone, advanced on each miss. */
+    private final AtomicLong iClock = new AtomicLong();
+    /** The number of requests found in the cache. */
+    private final AtomicLong iHitCount = new AtomicLong();
+    /** The number of requests not found in the cache. */
+    private final AtomicLong iMissCount = new AtomicLong();
+    /** The number of times zone data has been loaded. */
+    private final AtomicLong iLoadCount = new AtomicLong();
 
     /**
      * ZoneInfoProvider searches the given directory for compiled data files.
@@ -73,6 +115,8 @@ public class ZoneInfoProvider implements Provider {
 
         iZoneInfoMap = loadZoneInfoMap(openResource("ZoneInfoMap"));
         iZoneInfoKeys = Collections.unmodifiableSortedSet(new TreeSet<String>(iZoneInfoMap.keySet()));
+        iCacheSize = readCacheSize();
+        pinConfiguredZones();
     }
 
     /**
@@ -126,6 +170,45 @@ public class ZoneInfoProvider implements Provider {
 
         iZoneInfoMap = loadZoneInfoMap(openResource("ZoneInfoMap"));
         iZoneInfoKeys = Collections.unmodifiableSortedSet(new TreeSet<String>(iZoneInfoMap.keySet()));
+        iCacheSize = readCacheSize();
+        pinConfiguredZones();
+    }
+
+    /**
+     * Reads the cache size from the system property.
+     * 
+     * @return the cache size
+     */
+    private static int readCacheSize() {
+        Integer size;
+        try {
+            size = Integer.getInteger("org.joda.time.tz.ZoneInfoProvider.cacheSize");
+        } catch (SecurityException ex) {
+            size = null;
+        }
+        return (size == null || size.intValue() < 0 ? 128 : size.intValue());
+    }
+
+    /**
+     * Pins UTC and the zones listed in the system property.
+     */
+    private void pinConfiguredZones() {
+        iCache.put("UTC", new CacheEntry(DateTimeZone.UTC, true));
+        String pinned;
+        try {
+            pinned = System.getProperty("org.joda.time.tz.ZoneInfoProvider.pinnedZones");
+        } catch (SecurityException ex) {
+            pinned = null;
+        }
+        if (pinned != null) {
+            String[] ids = pinned.split(",");
+            for (int i = 0; i < ids.length; i++) {
+                String id = ids[i].trim();
+                if (id.length() > 0) {
+                    pin(id);
+                }
+            }
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -137,31 +220,241 @@ public class ZoneInfoProvider implements Provider {
      * @return the loaded zone
      */
     public DateTimeZone getZone(String id) {
+        CacheEntry entry = getEntry(id, false);
+        return (entry == null ? null : entry.iZone);
+    }
+
+    /**
+     * Gets a zone, loading it if necessary, and pins it in the cache so that
+     * it is never evicted.
+     * 
+     * @param id  the id to load
+     * @return the loaded zone, null if not found
+     * @since 2.8
+     */
+    public DateTimeZone pin(String id) {
+        CacheEntry entry = getEntry(id, true);
+        return (entry == null ? null : entry.iZone);
+    }
+
+    /**
+     * Unpins a zone, allowing it to be evicted from the cache.
+     * UTC remains pinned.
+     * 
+     * @param id  the id to unpin
+     * @since 2.8
+     */
+    public void unpin(String id) {
+        String dataId = resolveId(id);
+        if (dataId == null || dataId.equals("UTC")) {
+            return;
+        }
+        synchronized (iCache) {
+            CacheEntry entry = iCache.get(dataId);
+            if (entry != null && entry.iPinned) {
+                entry.iPinned = false;
+                iUnpinnedCount++;
+                evict();
+            }
+        }
+    }
+
+    /**
+     * Gets the maximum number of unpinned zones held in the cache.
+     * 
+     * @return the cache size
+     * @since 2.8
+     */
+    public int getCacheSize() {
+        return iCacheSize;
+    }
+
+    /**
+     * Gets the number of requests that found the zone in the cache.
+     * 
+     * @return the hit count
+     * @since 2.8
+     */
+    public long getHitCount() {
+        return iHitCount.get();
+    }
+
+    /**
+     * Gets the number of requests that did not find the zone in the cache.
+     * 
+     * @return the miss count
+     * @since 2.8
+     */
+    public long getMissCount() {
+        return iMissCount.get();
+    }
+
+    /**
+     * Gets the number of times zone data has been loaded.
+     * 
+     * @return the load count
+     * @since 2.8
+     */
+    public long getLoadCount() {
+        return iLoadCount.get();
+    }
+
+    /**
+     * Resolves an id to the id of its data file.
+     * 
+     * @param id  the id to resolve
+     * @return the data file id, null if not found
+     */
+    private String resolveId(String id) {
         if (id == null) {
             return null;
         }
+        String dataId = iZoneInfoMap.get(id);
+        while (dataId != null && !dataId.equals(id)) {
+            // Mapping links to another.
+            id = dataId;
+            dataId = iZoneInfoMap.get(id);
+        }
+        return dataId;
+    }
 
-        Object obj = iZoneInfoMap.get(id);
-        if (obj == null) {
+    /**
+     * Gets the cache entry for an id, loading the zone if necessary.
+     * 
+     * @param id  the id to find
+     * @param pin  true to pin the zone
+     * @return the cache entry, null if not found
+     */
+    private CacheEntry getEntry(String id, boolean pin) {
+        String dataId = resolveId(id);
+        if (dataId == null) {
             return null;
         }
+        CacheEntry entry = iCache.get(dataId);
+        if (entry != null && (entry.iPinned || !pin)) {
+            // The clock only advances on a miss, so this rarely writes.
+            iHitCount.incrementAndGet();
+            long now = iClock.get();
+            if (entry.iLastAccess != now) {
+                entry.iLastAccess = now;
+            }
+            return entry;
+        }
+        FutureTask<DateTimeZone> loading = null;
+        if (entry == null) {
+            iMissCount.incrementAndGet();
+            loading = load(dataId);
+            DateTimeZone tz = null;
+            try {
+                tz = waitFor(loading);
+            } finally {
+                if (tz == null) {
+                    iLoading.remove(dataId, loading);
+                }
+            }
+            if (tz == null) {
+                return null;
+            }
+            entry = new CacheEntry(tz, false);
+        } else {
+            iHitCount.incrementAndGet();
+        }
+        // only the bookkeeping is locked, not the loading
+        synchronized (iCache) {
+            CacheEntry cached = iCache.get(dataId);
+            if (cached == null) {
+                iCache.put(dataId, entry);
+                iUnpinnedCount++;
+            } else {
+                // loaded by another thread waiting for the same load
+                entry = cached;
+            }
+            if (loading != null) {
+                // removed once cached, so that no other thread loads the zone again
+                iLoading.remove(dataId, loading);
+            }
+            if (pin && !entry.iPinned) {
+                entry.iPinned = true;
+                iUnpinnedCount--;
+            }
+            entry.iLastAccess = iClock.incrementAndGet();
+            evict();
+            return entry;
+        }
+    }
 
-        if (obj instanceof SoftReference<?>) {
-            @SuppressWarnings("unchecked")
-            SoftReference<DateTimeZone> ref = (SoftReference<DateTimeZone>) obj;
-            DateTimeZone tz = ref.get();
-            if (tz != null) {
-                return tz;
+    /**
+     * Loads the zone for a data file id, without holding the cache lock.
+     * Threads requesting the same zone at the same time share a single load.
+     * 
+     * @param dataId  the data file id to load
+     * @return the completed load
+     */
+    private FutureTask<DateTimeZone> load(final String dataId) {
+        FutureTask<DateTimeZone> task = new FutureTask<DateTimeZone>(new Callable<DateTimeZone>() {
+            public DateTimeZone call() {
+                return loadZoneData(dataId);
             }
-            // Reference cleared; load data again.
-            return loadZoneData(id);
-        } else if (id.equals(obj)) {
-            // Load zone data for the first time.
-            return loadZoneData(id);
+        });
+        FutureTask<DateTimeZone> loading = iLoading.putIfAbsent(dataId, task);
+        if (loading == null) {
+            task.run();
+            return task;
         }
+        return loading;
+    }
+
+    /**
+     * Waits for a load to complete.
+     * 
+     * @param loading  the load
+     * @return the zone, null if it could not be loaded
+     */
+    private static DateTimeZone waitFor(FutureTask<DateTimeZone> loading) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return loading.get();
+                } catch (InterruptedException ex) {
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
 
-        // If this point is reached, mapping must link to another.
-        return getZone((String)obj);
+    /**
+     * Evicts the least recently used unpinned zones until the cache is
+     * within its size, called when the cache is locked.
+     */
+    private void evict() {
+        while (iUnpinnedCount > iCacheSize) {
+            String oldestId = null;
+            long oldest = Long.MAX_VALUE;
+            for (Iterator<Map.Entry<String, CacheEntry>> it = iCache.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<String, CacheEntry> mapEntry = it.next();
+                CacheEntry entry = mapEntry.getValue();
+                if (!entry.iPinned && entry.iLastAccess < oldest) {
+                    oldest = entry.iLastAccess;
+                    oldestId = mapEntry.getKey();
+                }
+            }
+            iCache.remove(oldestId);
+            iUnpinnedCount--;
+        }
     }
 
     /**
@@ -219,13 +512,12 @@ public class ZoneInfoProvider implements Provider {
      * @param id  the id to load
      * @return the zone
      */
-    private DateTimeZone loadZoneData(String id) {
+    DateTimeZone loadZoneData(String id) {
+        iLoadCount.incrementAndGet();
         InputStream in = null;
         try {
             in = openResource(id);
-            DateTimeZone tz = DateTimeZoneBuilder.readFrom(in, id);
-            iZoneInfoMap.put(id, new SoftReference<DateTimeZone>(tz));
-            return tz;
+            return DateTimeZoneBuilder.readFrom(in, id);
         } catch (IOException ex) {
             uncaughtException(ex);
             iZoneInfoMap.remove(id);
@@ -247,8 +539,8 @@ public class ZoneInfoProvider implements Provider {
      * @param in  the input stream
      * @return the map
      */
-    private static Map<String, Object> loadZoneInfoMap(InputStream in) throws IOException {
-        Map<String, Object> map = new ConcurrentHashMap<String, Object>();
+    private static Map<String, String> loadZoneInfoMap(InputStream in) throws IOException {
+        Map<String, String> map = new ConcurrentHashMap<String, String>();
         DataInputStream din = new DataInputStream(in);
         try {
             readZoneInfoMap(din, map);
@@ -258,7 +550,7 @@ public class ZoneInfoProvider implements Provider {
             } catch (IOException ex) {
             }
         }
-        map.put("UTC", new SoftReference<DateTimeZone>(DateTimeZone.UTC));
+        map.put("UTC", "UTC");
         return map;
     }
 
@@ -268,7 +560,7 @@ public class ZoneInfoProvider implements Provider {
      * @param din  the input stream
      * @param zimap  gets filled with string id to string id mappings
      */
-    private static void readZoneInfoMap(DataInputStream din, Map<String, Object> zimap) throws IOException {
+    private static void readZoneInfoMap(DataInputStream din, Map<String, String> zimap) throws IOException {
         // Read the string pool.
         int size = din.readUnsignedShort();
         String[] pool = new String[size];
@@ -287,4 +579,22 @@ public class ZoneInfoProvider implements Provider {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * A zone held in the cache.
+     */
+    private static final class CacheEntry {
+        /** The zone. */
+        final DateTimeZone iZone;
+        /** Whether the zone is pinned, guarded by the cache. */
+        volatile boolean iPinned;
+        /** The clock value when last accessed. */
+        volatile long iLastAccess;
+
+        CacheEntry(DateTimeZone zone, boolean pinned) {
+            iZone = zone;
+            iPinned = pinned;
+        }
+    }
+
 }
@@ -16,6 +16,7 @@
 package org.joda.time;
 
 import java.util.Locale;
+import java.util.Random;
 import java.util.TimeZone;
 
 import junit.framework.TestCase;
@@ -226,6 +227,42 @@ public class TestChronology extends TestCase {
         assertEquals(false, chrono1.hashCode() == chrono3.hashCode());
     }
 
+    public void testGetInstance_Zoned_cached() {
+        DateTimeZone zoneA = DateTimeZone.forID("Europe/Paris");
+        DateTimeZone zoneB = DateTimeZone.forID("Asia/Tokyo");
+        Chronology lenient = LenientChronology.getInstance(ISOChronology.getInstanceUTC());
+        
+        Chronology chrono1 = ZonedChronology.getInstance(lenient, zoneA);
+        Chronology chrono2 = ZonedChronology.getInstance(LenientChronology.getInstance(ISOChronology.getInstanceUTC()), zoneA);
+        Chronology chrono3 = ZonedChronology.getInstance(lenient, zoneB);
+        
+        assertSame(chrono1, chrono2);
+        assertSame(chrono3, chrono1.withZone(zoneB));
+        assertSame(chrono1, chrono3.withZone(zoneA));
+        assertSame(lenient, chrono1.withZone(DateTimeZone.UTC));
+        assertEquals(zoneB, chrono3.getZone());
+    }
+
+    public void testWithZone_wrappersCached() {
+        DateTimeZone zoneA = DateTimeZone.forID("Europe/Paris");
+        DateTimeZone zoneB = DateTimeZone.forID("Asia/Tokyo");
+        DateTime lower = new DateTime(2000, 1, 1, 0, 0, 0, 0, zoneA);
+        Chronology[] chronos = {
+            LenientChronology.getInstance(ISOChronology.getInstance(zoneA)),
+            StrictChronology.getInstance(ISOChronology.getInstance(zoneA)),
+            LimitChronology.getInstance(ISOChronology.getInstance(zoneA), lower, null),
+        };
+        for (int i = 0; i < chronos.length; i++) {
+            Chronology chrono = chronos[i].withZone(zoneB);
+            assertSame(chrono, chronos[i].withZone(zoneB));
+            assertSame(chronos[i], chrono.withZone(zoneA));
+            assertEquals(zoneB, chrono.getZone());
+        }
+        Chronology limit = LimitChronology.getInstance(ISOChronology.getInstance(zoneA), lower, null);
+        assertSame(chronos[2], limit);
+        assertNotSame(limit, LimitChronology.getInstance(ISOChronology.getInstance(zoneA), null, lower));
+    }
+
     //-----------------------------------------------------------------------
     public void testToString() {
         DateTimeZone paris = DateTimeZone.forID("Europe/Paris");
@@ -246,4 +283,215 @@ public class TestChronology extends TestCase {
         assertEquals("ZonedChronology[ISOChronology[UTC], Europe/Paris]", ZonedChronology.getInstance(isoParis, paris).toString());
     }
 
+    //-----------------------------------------------------------------------
+    public void testGetDateTimeFields() {
+        DateTimeZone paris = DateTimeZone.forID("Europe/Paris");
+        ISOChronology isoParis = ISOChronology.getInstance(paris);
+        Chronology[] chronos = new Chronology[] {
+            ISOChronology.getInstanceUTC(), isoParis,
+            GJChronology.getInstance(paris), GregorianChronology.getInstance(paris),
+            JulianChronology.getInstanceUTC(), BuddhistChronology.getInstance(paris),
+            CopticChronology.getInstanceUTC(), EthiopicChronology.getInstance(paris),
+            IslamicChronology.getInstanceUTC(), LenientChronology.getInstance(isoParis),
+            StrictChronology.getInstance(isoParis), LimitChronology.getInstance(isoParis, null, null),
+        };
+        long[] instants = new long[] {
+            TEST_TIME1, TEST_TIME2, 0L, -1L, -62135596800000L, -62198755200001L,
+            -100000000000000L, 253402300799999L, 1035680399999L, 1035680400000L,
+        };
+        int[] values = new int[8];
+        for (int i = 0; i < chronos.length; i++) {
+            Chronology chrono = chronos[i];
+            for (int j = 0; j < instants.length; j++) {
+                long instant = instants[j];
+                values[7] = -99;
+                String msg = chrono + " " + instant;
+                try {
+                    chrono.year().get(instant);
+                } catch (IllegalArgumentException ex) {
+                    try {
+                        chrono.getDateTimeFields(instant, values);
+                        fail(msg);
+                    } catch (IllegalArgumentException ex2) {
+                        continue;
+                    }
+                }
+                chrono.getDateTimeFields(instant, values);
+                assertEquals(msg, chrono.year().get(instant), values[0]);
+                assertEquals(msg, chrono.monthOfYear().get(instant), values[1]);
+                assertEquals(msg, chrono.dayOfMonth().get(instant), values[2]);
+                assertEquals(msg, chrono.hourOfDay().get(instant), values[3]);
+                assertEquals(msg, chrono.minuteOfHour().get(instant), values[4]);
+                assertEquals(msg, chrono.secondOfMinute().get(instant), values[5]);
+                assertEquals(msg, chrono.millisOfSecond().get(instant), values[6]);
+                assertEquals(msg, -99, values[7]);
+            }
+        }
+    }
+
+    public void testGetDateTimeFields_badArray() {
+        try {
+            ISOChronology.getInstanceUTC().getDateTimeFields(0L, new int[6]);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            ISOChronology.getInstance(LONDON).getDateTimeFields(0L, null);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void testGetDateTimeMillis_bulk() {
+        DateTimeZone paris = DateTimeZone.forID("Europe/Paris");
+        ISOChronology isoParis = ISOChronology.getInstance(paris);
+        Chronology[] chronos = new Chronology[] {
+            ISOChronology.getInstanceUTC(), isoParis,
+            ISOChronology.getInstance(DateTimeZone.forID("Australia/Sydney")),
+            ISOChronology.getInstance(DateTimeZone.forOffsetHoursMinutes(5, 30)),
+            GJChronology.getInstance(paris), GregorianChronology.getInstance(paris),
+            JulianChronology.getInstanceUTC(), BuddhistChronology.getInstance(paris),
+            CopticChronology.getInstanceUTC(), EthiopicChronology.getInstance(paris),
+            IslamicChronology.getInstanceUTC(), LenientChronology.getInstance(isoParis),
+            StrictChronology.getInstance(isoParis), LimitChronology.getInstance(isoParis, null, null),
+        };
+        int size = 3000;
+        int[] years = new int[size];
+        int[] months = new int[size];
+        int[] days = new int[size];
+        int[] millisOfDay = new int[size];
+        long[] expected = new long[size];
+        long[] instants = new long[size];
+        int[] values = new int[7];
+        for (int i = 0; i < chronos.length; i++) {
+            Chronology chrono = chronos[i];
+            Chronology utc = chrono.withUTC();
+            Random random = new java.util.Random(i);
+            // from 58 BC, or 1970 for calendars not supporting earlier dates
+            long local = -64000000000000L;
+            if (utc instanceof IslamicChronology || utc instanceof CopticChronology || utc instanceof EthiopicChronology) {
+                local = 0L;
+            }
+            int count = 0;
+            while (count < size) {
+                // mostly ascending, with some distant jumps
+                local += (random.nextInt(20) == 0 ? 1000L * DateTimeConstants.MILLIS_PER_DAY : 0L) +
+                    random.nextInt(30 * DateTimeConstants.MILLIS_PER_HOUR);
+                utc.getDateTimeFields(local, values);
+                int millis = (int) ((values[3] * 60L + values[4]) * 60000L + values[5] * 1000L + values[6]);
+                try {
+                    expected[count] = chrono.getDateTimeMillis(values[0], values[1], values[2], millis);
+                } catch (IllegalArgumentException ex) {
+                    continue;  // in a time zone gap
+                }
+                years[count] = values[0];
+                months[count] = values[1];
+                days[count] = values[2];
+                millisOfDay[count] = millis;
+                count++;
+            }
+            chrono.getDateTimeMillis(years, months, days, millisOfDay, instants, size);
+            for (int j = 0; j < size; j++) {
+                assertEquals(chrono + " " + years[j] + "-" + months[j] + "-" + days[j], expected[j], instants[j]);
+            }
+            chrono.getDateTimeMillis(years, months, days, null, instants, size);
+            for (int j = 0; j < size; j++) {
+                assertEquals(chrono.getDateTimeMillis(years[j], months[j], days[j], 0), instants[j]);
+            }
+        }
+    }
+
+    public void testGetDateTimeMillis_bulkInvalid() {
+        Chronology chrono = ISOChronology.getInstance(LONDON);
+        int[] years = new int[] {2015, 2015, 2015, 2015};
+        int[] months = new int[] {2, 3, 2, 1};
+        int[] days = new int[] {28, 29, 29, 1};
+        int[] millisOfDay = new int[] {0, 3600000, 0, 0};
+        long[] instants = new long[4];
+        try {
+            chrono.getDateTimeMillis(years, months, days, null, instants, 4);
+            fail();
+        } catch (IllegalFieldValueException ex) {
+            assertEquals(DateTimeFieldType.dayOfMonth(), ex.getDateTimeFieldType());
+        }
+        assertEquals(new DateTime(2015, 2, 28, 0, 0, LONDON).getMillis(), instants[0]);
+        assertEquals(new DateTime(2015, 3, 29, 0, 0, LONDON).getMillis(), instants[1]);
+        assertEquals(0L, instants[2]);
+        try {
+            chrono.getDateTimeMillis(years, months, days, millisOfDay, instants, 2);
+            fail();
+        } catch (IllegalInstantException ex) {
+            // expected, 01:00 is in the gap
+        }
+        try {
+            JulianChronology.getInstanceUTC().getDateTimeMillis(
+                new int[] {0}, new int[] {1}, new int[] {1}, null, instants, 1);
+            fail();
+        } catch (IllegalFieldValueException ex) {
+            // expected, no year zero
+        }
+    }
+
+    public void testGetDateTimeMillis_bulkInvalidZoned() {
+        DateTimeZone zone = DateTimeZone.forID("America/New_York");
+        Chronology chrono = ISOChronology.getInstance(zone);
+        int[] years = new int[] {2015, 2015, 2015, 2015};
+        int[] months = new int[] {1, 7, 2, 1};
+        int[] days = new int[] {10, 20, 30, 1};
+        long[] instants = new long[4];
+        try {
+            chrono.getDateTimeMillis(years, months, days, null, instants, 4);
+            fail();
+        } catch (IllegalFieldValueException ex) {
+            assertEquals(DateTimeFieldType.dayOfMonth(), ex.getDateTimeFieldType());
+        }
+        assertEquals(new DateTime(2015, 1, 10, 0, 0, zone).getMillis(), instants[0]);
+        assertEquals(new DateTime(2015, 7, 20, 0, 0, zone).getMillis(), instants[1]);
+    }
+
+    public void testGetDateTimeMillis_bulkLimit() {
+        DateTime upper = new DateTime(2015, 6, 1, 0, 0, LONDON);
+        Chronology chrono = LimitChronology.getInstance(ISOChronology.getInstance(LONDON), null, upper);
+        int[] years = new int[] {2015, 2015, 2015, 2015};
+        int[] months = new int[] {1, 5, 6, 1};
+        int[] days = new int[] {10, 31, 2, 1};
+        long[] instants = new long[4];
+        try {
+            chrono.getDateTimeMillis(years, months, days, null, instants, 4);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected, the 2nd of June is after the limit
+        }
+        assertEquals(new DateTime(2015, 1, 10, 0, 0, LONDON).getMillis(), instants[0]);
+        assertEquals(new DateTime(2015, 5, 31, 0, 0, LONDON).getMillis(), instants[1]);
+        chrono.getDateTimeMillis(years, months, days, null, instants, 2);
+        assertEquals(new DateTime(2015, 5, 31, 0, 0, LONDON).getMillis(), instants[1]);
+    }
+
+    public void testGetDateTimeMillis_bulkBadArray() {
+        Chronology chrono = ISOChronology.getInstanceUTC();
+        int[] values = new int[] {2015, 2015};
+        try {
+            chrono.getDateTimeMillis(values, values, new int[1], null, new long[2], 2);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            chrono.getDateTimeMillis(values, values, values, values, new long[1], 2);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            chrono.getDateTimeMillis(values, values, values, null, new long[2], -1);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
 }
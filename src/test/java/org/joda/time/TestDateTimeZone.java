@@ -42,6 +42,7 @@ import junit.framework.TestSuite;
 import org.joda.time.tz.DefaultNameProvider;
 import org.joda.time.tz.NameProvider;
 import org.joda.time.tz.Provider;
+import org.joda.time.tz.TransitionCursor;
 import org.joda.time.tz.UTCProvider;
 import org.joda.time.tz.ZoneInfoProvider;
 
@@ -352,6 +353,19 @@ public class TestDateTimeZone extends TestCase {
                         4 * 60 * 60 * 1000 + 45 * 60 * 1000 + 17 * 1000 + 45));
     }        
 
+    public void testForOffsetMillis_int_sameInstance() {
+        DateTimeZone zone = DateTimeZone.forOffsetMillis(5 * 60 * 60 * 1000 + 30 * 60 * 1000);
+        assertEquals("+05:30", zone.getID());
+        assertSame(zone, DateTimeZone.forOffsetMillis(5 * 60 * 60 * 1000 + 30 * 60 * 1000));
+        assertSame(zone, DateTimeZone.forOffsetHoursMinutes(5, 30));
+        assertSame(zone, DateTimeZone.forID("+05:30"));
+        assertSame(zone, DateTimeZone.forID("+05:30:00.000"));
+        assertSame(zone, DateTimeZone.forTimeZone(TimeZone.getTimeZone("GMT+05:30")));
+        assertSame(DateTimeZone.forOffsetHoursMinutes(23, 59), DateTimeZone.forID("+23:59"));
+        assertSame(DateTimeZone.forOffsetHoursMinutes(-23, -59), DateTimeZone.forID("-23:59"));
+        assertEquals(DateTimeZone.forOffsetMillis(1001), DateTimeZone.forOffsetMillis(1001));
+    }
+
     //-----------------------------------------------------------------------
     public void testForTimeZone_TimeZone() {
         assertEquals(DateTimeZone.getDefault(), DateTimeZone.forTimeZone((TimeZone) null));
@@ -876,6 +890,91 @@ public class TestDateTimeZone extends TestCase {
         }
     }
 
+    //-----------------------------------------------------------------------
+    public void testBulkConversions() {
+        String[] ids = {"Europe/Paris", "America/New_York", "Australia/Lord_Howe", "+01:00", "UTC"};
+        long[] starts = {
+            new DateTime(2009, 1, 1, 0, 0, DateTimeZone.UTC).getMillis(),
+            new DateTime(2045, 1, 1, 0, 0, DateTimeZone.UTC).getMillis()};
+        for (int i = 0; i < ids.length; i++) {
+            DateTimeZone zone = DateTimeZone.forID(ids[i]);
+            for (int j = 0; j < starts.length; j++) {
+                // every 7 minutes for two years, ascending
+                long[] instants = new long[2 * 366 * 24 * 60 / 7];
+                for (int k = 0; k < instants.length; k++) {
+                    instants[k] = starts[j] + k * 7L * DateTimeConstants.MILLIS_PER_MINUTE;
+                }
+                assertBulkConversions(zone, instants);
+                // descending
+                long[] reversed = new long[instants.length];
+                for (int k = 0; k < instants.length; k++) {
+                    reversed[k] = instants[instants.length - 1 - k];
+                }
+                assertBulkConversions(zone, reversed);
+            }
+        }
+    }
+
+    private void assertBulkConversions(DateTimeZone zone, long[] instants) {
+        int[] offsets = new int[instants.length];
+        zone.getOffsets(instants, offsets);
+        long[] local = new long[instants.length];
+        zone.convertUTCToLocal(instants, local);
+        long[] utc = new long[instants.length];
+        zone.convertLocalToUTC(instants, utc, false);
+        for (int k = 0; k < instants.length; k++) {
+            assertEquals(zone.getOffset(instants[k]), offsets[k]);
+            assertEquals(zone.convertUTCToLocal(instants[k]), local[k]);
+            assertEquals(zone.convertLocalToUTC(instants[k], false), utc[k]);
+        }
+    }
+
+    public void testBulkConversions_sameArray() {
+        long[] instants = {TEST_TIME_WINTER, TEST_TIME_SUMMER};
+        PARIS.convertUTCToLocal(instants, instants);
+        assertEquals(TEST_TIME_WINTER + DateTimeConstants.MILLIS_PER_HOUR, instants[0]);
+        assertEquals(TEST_TIME_SUMMER + 2L * DateTimeConstants.MILLIS_PER_HOUR, instants[1]);
+        PARIS.convertLocalToUTC(instants, instants, true);
+        assertEquals(TEST_TIME_WINTER, instants[0]);
+        assertEquals(TEST_TIME_SUMMER, instants[1]);
+    }
+
+    public void testBulkConversions_strictGap() {
+        long[] instants = {
+            new LocalDateTime(2007, 3, 25, 1, 30).toDateTime(DateTimeZone.UTC).getMillis(),
+            new LocalDateTime(2007, 3, 25, 2, 30).toDateTime(DateTimeZone.UTC).getMillis()};
+        long[] utc = new long[2];
+        PARIS.convertLocalToUTC(instants, utc, false);
+        assertEquals(PARIS.convertLocalToUTC(instants[1], false), utc[1]);
+        try {
+            PARIS.convertLocalToUTC(instants, utc, true);
+            fail();
+        } catch (IllegalInstantException ex) {
+            // expected
+        }
+    }
+
+    public void testBulkConversions_badArrays() {
+        try {
+            PARIS.getOffsets(new long[2], new int[1]);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            PARIS.convertUTCToLocal(null, new long[1]);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            PARIS.convertLocalToUTC(new long[2], new long[1], false);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
     //-----------------------------------------------------------------------
     public void testIsFixed() {
         DateTimeZone zone = DateTimeZone.forID("Europe/Paris");
@@ -892,6 +991,72 @@ public class TestDateTimeZone extends TestCase {
         assertEquals(TEST_TIME_WINTER, zone.previousTransition(TEST_TIME_WINTER));
     }
 
+    //-----------------------------------------------------------------------
+    public void testTransitionCursor() {
+        String[] ids = {"Europe/Paris", "America/New_York", "Australia/Sydney", "Asia/Tokyo", "Europe/London"};
+        long start = new DateTime(1850, 1, 1, 0, 0, DateTimeZone.UTC).getMillis();
+        long end = new DateTime(2060, 1, 1, 0, 0, DateTimeZone.UTC).getMillis();
+        for (int i = 0; i < ids.length; i++) {
+            DateTimeZone zone = DateTimeZone.forID(ids[i]);
+            TransitionCursor cursor = zone.transitionCursor(start, end);
+            assertEquals(zone.getID(), cursor.getZone().getID());
+            assertEquals(end, cursor.getEnd());
+            long instant = start;
+            int count = 0;
+            while (true) {
+                assertEquals(instant, cursor.getInstant());
+                assertEquals(zone.getOffset(instant), cursor.getOffset());
+                assertEquals(zone.getStandardOffset(instant), cursor.getStandardOffset());
+                assertEquals(zone.getNameKey(instant), cursor.getNameKey());
+                long next = zone.nextTransition(instant);
+                boolean expected = next > instant && next < end;
+                assertEquals(expected, cursor.next());
+                if (!expected) {
+                    assertEquals(instant, cursor.getInstant());
+                    break;
+                }
+                instant = next;
+                count++;
+            }
+            assertTrue(count > 0);
+        }
+    }
+
+    public void testTransitionCursor_endExclusive() {
+        long transition = PARIS.nextTransition(TEST_TIME_WINTER);
+        TransitionCursor cursor = PARIS.transitionCursor(TEST_TIME_WINTER, transition);
+        assertEquals(TEST_TIME_WINTER, cursor.getInstant());
+        assertEquals(false, cursor.next());
+        cursor = PARIS.transitionCursor(TEST_TIME_WINTER, transition + 1);
+        assertEquals(true, cursor.next());
+        assertEquals(transition, cursor.getInstant());
+        assertEquals(2 * DateTimeConstants.MILLIS_PER_HOUR, cursor.getOffset());
+        assertEquals(false, cursor.next());
+        
+        cursor = PARIS.transitionCursor(transition, transition);
+        assertEquals(transition, cursor.getInstant());
+        assertEquals(false, cursor.next());
+    }
+
+    public void testTransitionCursor_fixed() {
+        DateTimeZone zone = DateTimeZone.forID("+01:00");
+        TransitionCursor cursor = zone.transitionCursor(TEST_TIME_WINTER, TEST_TIME_SUMMER);
+        assertEquals(TEST_TIME_WINTER, cursor.getInstant());
+        assertEquals(DateTimeConstants.MILLIS_PER_HOUR, cursor.getOffset());
+        assertEquals(DateTimeConstants.MILLIS_PER_HOUR, cursor.getStandardOffset());
+        assertEquals(false, cursor.next());
+        assertEquals(TEST_TIME_WINTER, cursor.getInstant());
+    }
+
+    public void testTransitionCursor_badRange() {
+        try {
+            PARIS.transitionCursor(TEST_TIME_SUMMER, TEST_TIME_WINTER);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
 //    //-----------------------------------------------------------------------
 //    public void testIsLocalDateTimeOverlap_Berlin() {
 //        DateTimeZone zone = DateTimeZone.forID("Europe/Berlin");
@@ -35,6 +35,7 @@ import org.joda.time.chrono.CopticChronology;
 import org.joda.time.chrono.GJChronology;
 import org.joda.time.chrono.GregorianChronology;
 import org.joda.time.chrono.ISOChronology;
+import org.joda.time.chrono.LocalFieldView;
 import org.joda.time.field.UnsupportedDateTimeField;
 import org.joda.time.field.UnsupportedDurationField;
 import org.joda.time.format.DateTimeFormat;
@@ -221,6 +222,17 @@ public class TestDateTime_Basics extends TestCase {
         assertEquals(false, test.isSupported(null));
     }
 
+    public void testToLocalFieldView() {
+        DateTime test = new DateTime(TEST_TIME_NOW, PARIS);
+        LocalFieldView view = test.toLocalFieldView();
+        assertEquals(ISO_PARIS, view.getChronology());
+        assertEquals(TEST_TIME_NOW, view.getInstant());
+        assertEquals(2002, view.get(DateTimeFieldType.year()));
+        assertEquals(2, view.get(DateTimeFieldType.hourOfDay()));
+        assertEquals("June", view.getAsText(DateTimeFieldType.monthOfYear(), Locale.ENGLISH));
+        assertEquals(test.dayOfMonth().roundFloorCopy().getMillis(), view.roundFloor(DateTimeFieldType.dayOfMonth()));
+    }
+
     //-----------------------------------------------------------------------
     public void testGetters() {
         DateTime test = new DateTime();
@@ -611,6 +611,34 @@ public class TestPeriodType extends TestCase {
         assertEquals(false, type.hashCode() == type2.hashCode());
     }
 
+    public void testForFields_concurrent() throws Exception {
+        final DurationFieldType[] types = new DurationFieldType[] {
+            DurationFieldType.minutes(),
+            DurationFieldType.days(),
+            DurationFieldType.weeks(),
+        };
+        final PeriodType[] results = new PeriodType[8];
+        Thread[] threads = new Thread[results.length];
+        for (int i = 0; i < threads.length; i++) {
+            final int index = i;
+            threads[i] = new Thread() {
+                public void run() {
+                    results[index] = PeriodType.forFields(types);
+                }
+            };
+            threads[i].start();
+        }
+        for (int i = 0; i < threads.length; i++) {
+            threads[i].join();
+        }
+        for (int i = 0; i < results.length; i++) {
+            assertSame(results[0], results[i]);
+        }
+        assertSame(results[0], PeriodType.forFields(new DurationFieldType[] {
+            DurationFieldType.weeks(), DurationFieldType.days(), DurationFieldType.minutes()}));
+        assertSame(PeriodType.days(), PeriodType.forFields(new DurationFieldType[] {DurationFieldType.days()}));
+    }
+
     //-----------------------------------------------------------------------
     public void testMaskYears() throws Exception {
         PeriodType type = PeriodType.standard().withYearsRemoved();
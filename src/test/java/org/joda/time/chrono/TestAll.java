@@ -48,6 +48,9 @@ public class TestAll extends TestCase {
         suite.addTest(TestISOChronology.suite());
         suite.addTest(TestLenientChronology.suite());
         suite.addTest(TestGJDate.suite());
+        suite.addTest(TestLocalFieldCursor.suite());
+        suite.addTest(TestLocalFieldView.suite());
+        suite.addTest(TestMonthTable.suite());
         
         return suite;
     }
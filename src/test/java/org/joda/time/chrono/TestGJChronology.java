@@ -518,6 +518,21 @@ public class TestGJChronology extends TestCase {
         }
     }
 
+    public void testIsValidValueForSet_cutover() {
+        // the day of month is checked on the side of the cutover the instant is on
+        Chronology chrono = GJChronology.getInstanceUTC();
+        long julian = new DateMidnight(1582, 10, 1, chrono).getMillis();
+        long gregorian = new DateMidnight(1582, 10, 31, chrono).getMillis();
+        assertEquals(true, chrono.dayOfMonth().isValidValueForSet(julian, 31));
+        assertEquals(true, chrono.dayOfMonth().isValidValueForSet(gregorian, 1));
+        assertEquals(1582, new DateTime(chrono.dayOfMonth().set(gregorian, 1), chrono).getYear());
+        long february = new DateMidnight(1500, 2, 1, chrono).getMillis();
+        assertEquals(true, chrono.dayOfMonth().isValidValueForSet(february, 29));
+        assertEquals(false, chrono.dayOfMonth().isValidValueForSet(february, 30));
+        february = new DateMidnight(1700, 2, 1, chrono).getMillis();
+        assertEquals(false, chrono.dayOfMonth().isValidValueForSet(february, 29));
+    }
+
     public void testPartialGetAsText() {
         GJChronology chrono = GJChronology.getInstance(TOKYO);
         assertEquals("January", new YearMonthDay("2005-01-01", chrono).monthOfYear().getAsText());
@@ -560,4 +575,38 @@ public class TestGJChronology extends TestCase {
         assertEquals(true, dt.dayOfYear().isLeap());
     }
 
+    public void testGetDateTimeFields() {
+        Instant midday = new DateTime(1752, 9, 14, 12, 0, 0, 0, DateTimeZone.UTC).toInstant();
+        Chronology[] chronos = {
+            GJChronology.getInstanceUTC(),
+            GJChronology.getInstance(PARIS),
+            GJChronology.getInstance(DateTimeZone.UTC, midday),
+        };
+        long step = 7 * DateTimeConstants.MILLIS_PER_DAY + 3 * DateTimeConstants.MILLIS_PER_HOUR + 1234L;
+        int[] values = new int[7];
+        for (int i = 0; i < chronos.length; i++) {
+            Chronology chrono = chronos[i];
+            long end = new DateTime(2100, 1, 1, 0, 0, 0, 0, DateTimeZone.UTC).getMillis();
+            for (long instant = new DateTime(-600, 1, 1, 0, 0, 0, 0, DateTimeZone.UTC).getMillis();
+                    instant < end; instant += step) {
+                chrono.getDateTimeFields(instant, values);
+                String msg = chrono + " " + instant;
+                assertEquals(msg, chrono.year().get(instant), values[0]);
+                assertEquals(msg, chrono.monthOfYear().get(instant), values[1]);
+                assertEquals(msg, chrono.dayOfMonth().get(instant), values[2]);
+                assertEquals(msg, chrono.hourOfDay().get(instant), values[3]);
+                assertEquals(msg, chrono.minuteOfHour().get(instant), values[4]);
+                assertEquals(msg, chrono.secondOfMinute().get(instant), values[5]);
+                assertEquals(msg, chrono.millisOfSecond().get(instant), values[6]);
+            }
+        }
+        Chronology chrono = chronos[2];
+        chrono.getDateTimeFields(midday.getMillis() - 1, values);
+        assertEquals(3, values[2]);
+        assertEquals(11, values[3]);
+        chrono.getDateTimeFields(midday.getMillis(), values);
+        assertEquals(14, values[2]);
+        assertEquals(12, values[3]);
+    }
+
 }
@@ -328,4 +328,44 @@ public class TestGregorianChronology extends TestCase {
         assertEquals(true, dt.dayOfYear().isLeap());
     }
 
+    public void testDateFields_consecutiveDays() {
+        GregorianChronology chrono = GregorianChronology.getInstanceUTC();
+        long millis = chrono.getDateTimeMillis(-801, 1, 1, 0);
+        int year = -801;
+        int month = 1;
+        int day = 1;
+        while (year < 1202) {
+            assertEquals(year, chrono.getYear(millis));
+            assertEquals(month, chrono.getMonthOfYear(millis));
+            assertEquals(day, chrono.getDayOfMonth(millis));
+            assertEquals(year, chrono.getYear(millis + DateTimeConstants.MILLIS_PER_DAY - 1));
+            assertEquals(day, chrono.getDayOfMonth(millis + DateTimeConstants.MILLIS_PER_DAY - 1));
+            assertEquals(millis, chrono.getYearMonthDayMillis(year, month, day));
+            if (day < chrono.getDaysInYearMonth(year, month)) {
+                day++;
+            } else if (month < 12) {
+                month++;
+                day = 1;
+            } else {
+                year++;
+                month = 1;
+                day = 1;
+            }
+            millis += DateTimeConstants.MILLIS_PER_DAY;
+        }
+    }
+
+    public void testDateFields_extremes() {
+        GregorianChronology chrono = GregorianChronology.getInstanceUTC();
+        assertEquals(-292275055, chrono.getYear(Long.MIN_VALUE));
+        assertEquals(5, chrono.getMonthOfYear(Long.MIN_VALUE));
+        assertEquals(16, chrono.getDayOfMonth(Long.MIN_VALUE));
+        assertEquals(292278994, chrono.getYear(Long.MAX_VALUE));
+        assertEquals(8, chrono.getMonthOfYear(Long.MAX_VALUE));
+        assertEquals(17, chrono.getDayOfMonth(Long.MAX_VALUE));
+        assertEquals(1969, chrono.getYear(-1L));
+        assertEquals(12, chrono.getMonthOfYear(-1L));
+        assertEquals(31, chrono.getDayOfMonth(-1L));
+    }
+
 }
@@ -736,4 +736,22 @@ public class TestIslamicChronology extends TestCase {
         assertEquals(true, IslamicChronology.LEAP_YEAR_HABASH_AL_HASIB.isLeapYear(30));
     }
 
+    public void testYearMillis() {
+        IslamicChronology.LeapYearPatternType[] patterns = {
+            IslamicChronology.LEAP_YEAR_15_BASED,
+            IslamicChronology.LEAP_YEAR_16_BASED,
+            IslamicChronology.LEAP_YEAR_INDIAN,
+            IslamicChronology.LEAP_YEAR_HABASH_AL_HASIB,
+        };
+        for (int i = 0; i < patterns.length; i++) {
+            IslamicChronology chrono = IslamicChronology.getInstance(DateTimeZone.UTC, patterns[i]);
+            for (int year = 500; year <= 2500; year++) {
+                long expected = chrono.calculateFirstDayOfYearMillis(year);
+                assertEquals(expected, chrono.getYearMillis(year));
+                assertEquals(year, chrono.getYear(expected));
+                assertEquals(year - 1, chrono.getYear(expected - 1));
+            }
+        }
+    }
+
 }
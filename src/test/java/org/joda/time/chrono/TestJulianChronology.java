@@ -317,4 +317,16 @@ public class TestJulianChronology extends TestCase {
         assertEquals(true, dt.dayOfYear().isLeap());
     }
 
+    public void testYearMillis() {
+        JulianChronology chrono1 = JulianChronology.getInstance(DateTimeZone.UTC, 4);
+        JulianChronology chrono2 = JulianChronology.getInstance(DateTimeZone.UTC, 1);
+        for (int year = 1000; year <= 3000; year++) {
+            long expected = chrono1.calculateFirstDayOfYearMillis(year);
+            assertEquals(expected, chrono1.getYearMillis(year));
+            assertEquals(expected, chrono2.getYearMillis(year));
+            assertEquals(year, chrono1.getYear(expected));
+            assertEquals(year - 1, chrono1.getYear(expected - 1));
+        }
+    }
+
 }
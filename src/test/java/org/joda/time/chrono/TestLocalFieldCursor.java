@@ -0,0 +1,219 @@
+/*
+ *  Copyright 2001-2015 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.chrono;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeConstants;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Instant;
+
+/**
+ * This class is a JUnit test for LocalFieldCursor.
+ */
+public class TestLocalFieldCursor extends TestCase {
+
+    private static final DateTimeZone LONDON = DateTimeZone.forID("Europe/London");
+    private static final DateTimeZone SYDNEY = DateTimeZone.forID("Australia/Sydney");
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestLocalFieldCursor.class);
+    }
+
+    public TestLocalFieldCursor(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testConstructor() {
+        LocalFieldCursor cursor = new LocalFieldCursor(ISOChronology.getInstance(LONDON));
+        assertEquals(ISOChronology.getInstance(LONDON), cursor.getChronology());
+        assertEquals(0, cursor.getYear());
+        assertEquals(0, cursor.getOffset());
+        cursor.setInstant(0L);
+        assertEquals(0L, cursor.getInstant());
+        assertEquals(3600000, cursor.getOffset());
+        assertEquals(3600000L, cursor.getLocalMillis());
+        assertEquals(1970, cursor.getYear());
+        assertEquals(1, cursor.getMonthOfYear());
+        assertEquals(1, cursor.getDayOfMonth());
+        assertEquals(1, cursor.getHourOfDay());
+        assertEquals(0, cursor.getMinuteOfHour());
+        assertEquals(0, cursor.getSecondOfMinute());
+        assertEquals(0, cursor.getMillisOfSecond());
+    }
+
+    public void testConstructor_nullChronology() {
+        LocalFieldCursor cursor = new LocalFieldCursor(null);
+        assertEquals(ISOChronology.getInstance(), cursor.getChronology());
+    }
+
+    public void testIsKeepingDays() {
+        assertEquals(true, new LocalFieldCursor(ISOChronology.getInstanceUTC()).isKeepingDays());
+        assertEquals(true, new LocalFieldCursor(ISOChronology.getInstance(LONDON)).isKeepingDays());
+        assertEquals(true, new LocalFieldCursor(GregorianChronology.getInstance(LONDON)).isKeepingDays());
+        assertEquals(true, new LocalFieldCursor(GJChronology.getInstance(LONDON)).isKeepingDays());
+        assertEquals(true, new LocalFieldCursor(BuddhistChronology.getInstance(LONDON)).isKeepingDays());
+        assertEquals(true, new LocalFieldCursor(IslamicChronology.getInstance(LONDON)).isKeepingDays());
+        assertEquals(false, new LocalFieldCursor(
+            LenientChronology.getInstance(ISOChronology.getInstance(LONDON))).isKeepingDays());
+        DateTime midday = new DateTime(2015, 6, 1, 12, 0, 0, 0, DateTimeZone.UTC);
+        assertEquals(false, new LocalFieldCursor(
+            LimitChronology.getInstance(ISOChronology.getInstanceUTC(), midday, null)).isKeepingDays());
+        DateTime midnight = new DateTime(2015, 6, 1, 0, 0, 0, 0, DateTimeZone.UTC);
+        assertEquals(true, new LocalFieldCursor(
+            LimitChronology.getInstance(ISOChronology.getInstanceUTC(), midnight, null)).isKeepingDays());
+    }
+
+    public void testSetInstant() {
+        LocalFieldCursor cursor = new LocalFieldCursor(ISOChronology.getInstance(LONDON));
+        DateTime dt = new DateTime(2015, 3, 29, 0, 59, 59, 999, LONDON);
+        cursor.setInstant(dt.getMillis());
+        assertFields(dt, cursor);
+        cursor.setInstant(dt.getMillis() + 1);
+        assertEquals(3600000, cursor.getOffset());
+        assertEquals(2, cursor.getHourOfDay());
+        assertEquals(0, cursor.getMinuteOfHour());
+        cursor.setInstant(dt.getMillis());
+        assertEquals(0, cursor.getOffset());
+        assertEquals(0, cursor.getHourOfDay());
+    }
+
+    public void testSetInstant_ascending() {
+        Chronology[] chronos = {
+            ISOChronology.getInstanceUTC(),
+            ISOChronology.getInstance(LONDON),
+            ISOChronology.getInstance(SYDNEY),
+            ISOChronology.getInstance(DateTimeZone.forOffsetHoursMinutes(5, 30)),
+            GregorianChronology.getInstance(LONDON),
+            JulianChronology.getInstance(SYDNEY),
+            GJChronology.getInstance(LONDON),
+            BuddhistChronology.getInstance(SYDNEY),
+            CopticChronology.getInstance(LONDON),
+            IslamicChronology.getInstance(SYDNEY),
+            LenientChronology.getInstance(ISOChronology.getInstance(LONDON)),
+            LimitChronology.getInstance(ISOChronology.getInstanceUTC(),
+                new DateTime(1998, 1, 1, 0, 0, 0, 0, DateTimeZone.UTC), null).withZone(SYDNEY),
+        };
+        for (int i = 0; i < chronos.length; i++) {
+            Random random = new Random(i);
+            LocalFieldCursor cursor = new LocalFieldCursor(chronos[i]);
+            long instant = new DateTime(1999, 1, 1, 0, 0, chronos[i]).getMillis();
+            for (int j = 0; j < 20000; j++) {
+                instant += random.nextInt(3 * DateTimeConstants.MILLIS_PER_HOUR);
+                cursor.setInstant(instant);
+                assertFields(new DateTime(instant, chronos[i]), cursor);
+            }
+        }
+    }
+
+    public void testSetInstant_random() {
+        Chronology chrono = ISOChronology.getInstance(SYDNEY);
+        Random random = new Random(1);
+        LocalFieldCursor cursor = new LocalFieldCursor(chrono);
+        for (int j = 0; j < 20000; j++) {
+            long instant = (long) ((random.nextDouble() - 0.5d) * 2e13d);
+            cursor.setInstant(instant);
+            assertFields(new DateTime(instant, chrono), cursor);
+        }
+    }
+
+    public void testSetInstant_cutoverWithinDay() {
+        Instant cutover = new DateTime(1752, 9, 14, 12, 0, 0, 0, DateTimeZone.UTC).toInstant();
+        Chronology chrono = GJChronology.getInstance(DateTimeZone.UTC, cutover);
+        LocalFieldCursor cursor = new LocalFieldCursor(chrono);
+        long instant = cutover.getMillis() - DateTimeConstants.MILLIS_PER_DAY;
+        for (int j = 0; j < 96; j++) {
+            cursor.setInstant(instant);
+            assertFields(new DateTime(instant, chrono), cursor);
+            instant += DateTimeConstants.MILLIS_PER_HOUR / 2;
+        }
+        cursor.setInstant(cutover.getMillis() - 1);
+        assertEquals(3, cursor.getDayOfMonth());
+        cursor.setInstant(cutover.getMillis());
+        assertEquals(14, cursor.getDayOfMonth());
+    }
+
+    public void testSetInstant_limit() {
+        DateTime lower = new DateTime(2015, 6, 1, 12, 0, 0, 0, DateTimeZone.UTC);
+        Chronology chrono = LimitChronology.getInstance(ISOChronology.getInstanceUTC(), lower, null);
+        // the limit is in the middle of the local day
+        LocalFieldCursor cursor = new LocalFieldCursor(chrono.withZone(LONDON));
+        cursor.setInstant(lower.getMillis());
+        assertEquals(13, cursor.getHourOfDay());
+        try {
+            cursor.setInstant(lower.getMillis() - DateTimeConstants.MILLIS_PER_HOUR - 1);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    public void testSetInstant_overflow() {
+        LocalFieldCursor cursor = new LocalFieldCursor(ISOChronology.getInstance(SYDNEY));
+        try {
+            cursor.setInstant(Long.MAX_VALUE);
+            fail();
+        } catch (ArithmeticException ex) {
+            // expected
+        }
+    }
+
+    public void testGetDateTimeFields() {
+        LocalFieldCursor cursor = new LocalFieldCursor(ISOChronology.getInstanceUTC());
+        cursor.setInstant(new DateTime(2015, 6, 30, 12, 34, 56, 789, DateTimeZone.UTC).getMillis());
+        int[] values = new int[8];
+        cursor.getDateTimeFields(values);
+        assertEquals(2015, values[0]);
+        assertEquals(6, values[1]);
+        assertEquals(30, values[2]);
+        assertEquals(12, values[3]);
+        assertEquals(34, values[4]);
+        assertEquals(56, values[5]);
+        assertEquals(789, values[6]);
+        assertEquals(0, values[7]);
+        try {
+            cursor.getDateTimeFields(new int[6]);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    private void assertFields(DateTime expected, LocalFieldCursor cursor) {
+        String msg = expected.toString();
+        assertEquals(msg, expected.getMillis(), cursor.getInstant());
+        assertEquals(msg, expected.getZone().getOffset(expected), cursor.getOffset());
+        assertEquals(msg, expected.getYear(), cursor.getYear());
+        assertEquals(msg, expected.getMonthOfYear(), cursor.getMonthOfYear());
+        assertEquals(msg, expected.getDayOfMonth(), cursor.getDayOfMonth());
+        assertEquals(msg, expected.getHourOfDay(), cursor.getHourOfDay());
+        assertEquals(msg, expected.getMinuteOfHour(), cursor.getMinuteOfHour());
+        assertEquals(msg, expected.getSecondOfMinute(), cursor.getSecondOfMinute());
+        assertEquals(msg, expected.getMillisOfSecond(), cursor.getMillisOfSecond());
+    }
+
+}
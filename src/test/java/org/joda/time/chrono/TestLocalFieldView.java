@@ -0,0 +1,197 @@
+/*
+ *  Copyright 2001-2015 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.chrono;
+
+import java.util.Locale;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeField;
+import org.joda.time.DateTimeFieldType;
+import org.joda.time.DateTimeZone;
+
+/**
+ * This class is a JUnit test for LocalFieldView.
+ */
+public class TestLocalFieldView extends TestCase {
+
+    private static final DateTimeZone LONDON = DateTimeZone.forID("Europe/London");
+    private static final DateTimeZone SYDNEY = DateTimeZone.forID("Australia/Sydney");
+    private static final DateTimeZone NEWYORK = DateTimeZone.forID("America/New_York");
+
+    private static final DateTimeFieldType[] TYPES = {
+        DateTimeFieldType.era(), DateTimeFieldType.yearOfEra(), DateTimeFieldType.centuryOfEra(),
+        DateTimeFieldType.yearOfCentury(), DateTimeFieldType.year(), DateTimeFieldType.dayOfYear(),
+        DateTimeFieldType.monthOfYear(), DateTimeFieldType.dayOfMonth(), DateTimeFieldType.weekyearOfCentury(),
+        DateTimeFieldType.weekyear(), DateTimeFieldType.weekOfWeekyear(), DateTimeFieldType.dayOfWeek(),
+        DateTimeFieldType.halfdayOfDay(), DateTimeFieldType.hourOfHalfday(), DateTimeFieldType.clockhourOfHalfday(),
+        DateTimeFieldType.clockhourOfDay(), DateTimeFieldType.hourOfDay(), DateTimeFieldType.minuteOfDay(),
+        DateTimeFieldType.minuteOfHour(), DateTimeFieldType.secondOfDay(), DateTimeFieldType.secondOfMinute(),
+        DateTimeFieldType.millisOfDay(), DateTimeFieldType.millisOfSecond(),
+    };
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestLocalFieldView.class);
+    }
+
+    public TestLocalFieldView(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testConstructor() {
+        LocalFieldView view = new LocalFieldView(0L, ISOChronology.getInstance(LONDON));
+        assertEquals(ISOChronology.getInstance(LONDON), view.getChronology());
+        assertEquals(0L, view.getInstant());
+        assertEquals(3600000L, view.getLocalMillis());
+        assertEquals(1970, view.get(DateTimeFieldType.year()));
+        assertEquals(1, view.get(DateTimeFieldType.hourOfDay()));
+        assertEquals("January", view.getAsText(DateTimeFieldType.monthOfYear(), Locale.ENGLISH));
+        assertEquals("Thu", view.getAsShortText(DateTimeFieldType.dayOfWeek(), Locale.ENGLISH));
+        assertEquals(31, view.getMaximumValue(DateTimeFieldType.dayOfMonth()));
+        assertEquals(-3600000L, view.roundFloor(DateTimeFieldType.dayOfMonth()));
+        assertEquals(86400000L - 3600000L, view.roundCeiling(DateTimeFieldType.dayOfMonth()));
+    }
+
+    public void testConstructor_nullChronology() {
+        DateTimeZone zone = DateTimeZone.getDefault();
+        try {
+            DateTimeZone.setDefault(SYDNEY);
+            LocalFieldView view = new LocalFieldView(0L, null);
+            assertEquals(ISOChronology.getInstance(SYDNEY), view.getChronology());
+            assertEquals(36000000L, view.getLocalMillis());
+        } finally {
+            DateTimeZone.setDefault(zone);
+        }
+    }
+
+    public void testConstructor_overflow() {
+        try {
+            new LocalFieldView(Long.MAX_VALUE, ISOChronology.getInstance(SYDNEY));
+            fail();
+        } catch (ArithmeticException ex) {
+            // expected
+        }
+    }
+
+    public void testGet_nullType() {
+        LocalFieldView view = new LocalFieldView(0L, ISOChronology.getInstance(LONDON));
+        try {
+            view.get(null);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            view.roundFloor(null);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void testSameAsFields_transitions() {
+        Chronology[] chronos = {
+            ISOChronology.getInstance(LONDON), ISOChronology.getInstance(SYDNEY),
+            GJChronology.getInstance(NEWYORK), BuddhistChronology.getInstance(LONDON),
+        };
+        for (int i = 0; i < chronos.length; i++) {
+            Chronology chrono = chronos[i];
+            DateTimeZone zone = chrono.getZone();
+            long instant = new DateTime(2010, 1, 1, 0, 0, 0, 0, chrono).getMillis();
+            for (int j = 0; j < 6; j++) {
+                instant = zone.nextTransition(instant);
+                for (long delta = -7200000L; delta <= 7200000L; delta += 900000L) {
+                    assertSameAsFields(chrono, instant + delta);
+                }
+            }
+        }
+    }
+
+    public void testSameAsFields_random() {
+        Chronology[] chronos = {
+            ISOChronology.getInstanceUTC(), ISOChronology.getInstance(DateTimeZone.forOffsetHours(5)),
+            ISOChronology.getInstance(LONDON), GJChronology.getInstance(SYDNEY),
+            CopticChronology.getInstance(NEWYORK), IslamicChronology.getInstance(LONDON),
+            LimitChronology.getInstance(ISOChronology.getInstance(LONDON),
+                new DateTime(1900, 1, 1, 0, 0, 0, 0, LONDON), new DateTime(2100, 1, 1, 0, 0, 0, 0, LONDON)),
+        };
+        Random random = new Random(0);
+        for (int i = 0; i < chronos.length; i++) {
+            for (int j = 0; j < 200; j++) {
+                long instant = -2208988800000L + (long) (random.nextDouble() * 6311433600000L);
+                assertSameAsFields(chronos[i], instant);
+            }
+        }
+    }
+
+    private void assertSameAsFields(Chronology chrono, long instant) {
+        LocalFieldView view = new LocalFieldView(instant, chrono);
+        for (int i = 0; i < TYPES.length; i++) {
+            DateTimeField field = TYPES[i].getField(chrono);
+            String msg = chrono + " " + TYPES[i] + " " + instant;
+            assertEquals(msg, field.get(instant), view.get(TYPES[i]));
+            assertEquals(msg, field.getAsText(instant, Locale.ENGLISH), view.getAsText(TYPES[i], Locale.ENGLISH));
+            assertEquals(msg, field.getAsShortText(instant, Locale.ENGLISH),
+                view.getAsShortText(TYPES[i], Locale.ENGLISH));
+            assertEquals(msg, field.getMaximumValue(instant), view.getMaximumValue(TYPES[i]));
+            assertEquals(msg, roundFloor(field, instant), roundFloor(view, TYPES[i]));
+            assertEquals(msg, roundCeiling(field, instant), roundCeiling(view, TYPES[i]));
+        }
+    }
+
+    private static String roundFloor(DateTimeField field, long instant) {
+        try {
+            return Long.toString(field.roundFloor(instant));
+        } catch (IllegalArgumentException ex) {
+            return ex.getClass().getName();
+        }
+    }
+
+    private static String roundFloor(LocalFieldView view, DateTimeFieldType type) {
+        try {
+            return Long.toString(view.roundFloor(type));
+        } catch (IllegalArgumentException ex) {
+            return ex.getClass().getName();
+        }
+    }
+
+    private static String roundCeiling(DateTimeField field, long instant) {
+        try {
+            return Long.toString(field.roundCeiling(instant));
+        } catch (IllegalArgumentException ex) {
+            return ex.getClass().getName();
+        }
+    }
+
+    private static String roundCeiling(LocalFieldView view, DateTimeFieldType type) {
+        try {
+            return Long.toString(view.roundCeiling(type));
+        } catch (IllegalArgumentException ex) {
+            return ex.getClass().getName();
+        }
+    }
+
+}
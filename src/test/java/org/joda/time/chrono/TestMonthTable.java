@@ -0,0 +1,87 @@
+/*
+ *  Copyright 2001-2015 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.chrono;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.joda.time.DateTimeConstants;
+import org.joda.time.DateTimeZone;
+
+/**
+ * This class is a JUnit test for MonthTable.
+ */
+public class TestMonthTable extends TestCase {
+
+    private static final long START = GregorianChronology.getInstanceUTC().getYearMillis(1590);
+    private static final long END = GregorianChronology.getInstanceUTC().getYearMillis(2410);
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestMonthTable.class);
+    }
+
+    public TestMonthTable(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testIslamic() {
+        assertTable(IslamicChronology.getInstance(DateTimeZone.UTC, IslamicChronology.LEAP_YEAR_15_BASED));
+        assertTable(IslamicChronology.getInstance(DateTimeZone.UTC, IslamicChronology.LEAP_YEAR_16_BASED));
+        assertTable(IslamicChronology.getInstance(DateTimeZone.UTC, IslamicChronology.LEAP_YEAR_INDIAN));
+        assertTable(IslamicChronology.getInstance(DateTimeZone.UTC, IslamicChronology.LEAP_YEAR_HABASH_AL_HASIB));
+    }
+
+    public void testShared() {
+        IslamicChronology chrono = IslamicChronology.getInstanceUTC();
+        IslamicChronology zoned = IslamicChronology.getInstance(DateTimeZone.forID("Asia/Riyadh"));
+        IslamicChronology indian = IslamicChronology.getInstance(DateTimeZone.UTC, IslamicChronology.LEAP_YEAR_INDIAN);
+        assertSame(chrono.getMonthTable(), zoned.getMonthTable());
+        assertNotSame(chrono.getMonthTable(), indian.getMonthTable());
+        assertEquals(null, CopticChronology.getInstanceUTC().getMonthTable());
+    }
+
+    //-----------------------------------------------------------------------
+    private void assertTable(BasicChronology chrono) {
+        MonthTable table = MonthTable.forChronology(chrono);
+        assertEquals(-1, table.getMonthIndex(START));
+        assertEquals(-1, table.getMonthIndex(END));
+        int found = 0;
+        for (long instant = START; instant < END; instant += DateTimeConstants.MILLIS_PER_DAY) {
+            long millis = instant + DateTimeConstants.MILLIS_PER_DAY - 1;
+            int index = table.getMonthIndex(millis);
+            if (index < 0) {
+                continue;
+            }
+            found++;
+            int year = table.getYear(index);
+            int month = table.getMonthOfYear(index);
+            int dayOfMonth = table.getDayOfMonth(millis, index);
+            String msg = chrono + " " + millis;
+            assertEquals(msg, instant, chrono.getYearMonthDayMillis(year, month, dayOfMonth));
+            assertEquals(msg, year, chrono.getYear(millis));
+            assertEquals(msg, month, chrono.getMonthOfYear(millis));
+            assertEquals(msg, dayOfMonth, chrono.getDayOfMonth(millis));
+        }
+        // the table covers 1600 to 2400 (ISO) by default, less up to a year at each end
+        assertTrue(found > 290000);
+    }
+
+}
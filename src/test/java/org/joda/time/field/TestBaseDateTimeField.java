@@ -272,6 +272,14 @@ public class TestBaseDateTimeField extends TestCase {
         assertEquals(1029, field.set(0L, 29));
     }
 
+    public void test_isValidValueForSet_long_int() {
+        BaseDateTimeField field = new MockBaseDateTimeField();
+        assertEquals(false, field.isValidValueForSet(0L, -1));
+        assertEquals(true, field.isValidValueForSet(0L, 0));
+        assertEquals(true, field.isValidValueForSet(0L, 59));
+        assertEquals(false, field.isValidValueForSet(0L, 60));
+    }
+
     public void test_set_RP_int_intarray_int() {
         BaseDateTimeField field = new MockBaseDateTimeField();
         int[] values = new int[] {10, 20, 30, 40};
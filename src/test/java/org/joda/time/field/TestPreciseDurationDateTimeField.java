@@ -277,6 +277,22 @@ public class TestPreciseDurationDateTimeField extends TestCase {
         assertEquals(29 * 60, field.set(120L, 29));
     }
 
+    public void test_isValidValueForSet_long_int() {
+        BaseDateTimeField field = new MockPreciseDurationDateTimeField() {
+            protected int getMaximumValueForSet(long instant, int value) {
+                return 30;
+            }
+        };
+        assertEquals(false, field.isValidValueForSet(120L, -1));
+        assertEquals(true, field.isValidValueForSet(120L, 0));
+        assertEquals(true, field.isValidValueForSet(120L, 30));
+        assertEquals(false, field.isValidValueForSet(120L, 31));
+        try {
+            field.set(120L, 31);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+    }
+
     public void test_set_RP_int_intarray_int() {
         BaseDateTimeField field = new MockPreciseDurationDateTimeField();
         int[] values = new int[] {10, 20, 30, 40};
@@ -16,6 +16,10 @@
 package org.joda.time.format;
 
 import java.io.CharArrayWriter;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.text.ParsePosition;
 import java.util.Locale;
 import java.util.TimeZone;
 
@@ -25,6 +29,8 @@ import junit.framework.TestSuite;
 import org.joda.time.Chronology;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeConstants;
+import org.joda.time.DateTimeField;
+import org.joda.time.DateTimeFieldType;
 import org.joda.time.DateTimeUtils;
 import org.joda.time.DateTimeZone;
 import org.joda.time.LocalDate;
@@ -33,8 +39,14 @@ import org.joda.time.LocalTime;
 import org.joda.time.MutableDateTime;
 import org.joda.time.ReadablePartial;
 import org.joda.time.chrono.BuddhistChronology;
+import org.joda.time.chrono.CopticChronology;
 import org.joda.time.chrono.GJChronology;
 import org.joda.time.chrono.ISOChronology;
+import org.joda.time.chrono.JulianChronology;
+import org.joda.time.chrono.LenientChronology;
+import org.joda.time.chrono.LimitChronology;
+import org.joda.time.chrono.StrictChronology;
+import org.joda.time.field.DelegatedDateTimeField;
 
 /**
  * This class is a Junit unit test for DateTime Formating.
@@ -156,6 +168,18 @@ public class TestDateTimeFormatter extends TestCase {
         assertEquals("Wed 2547-06-09T12:20:30+02:00", f.withChronology(null).print(dt));
     }
 
+    public void testPrint_allFields() {
+        DateTimeFormatter g = DateTimeFormat.forPattern("yyyy-MM-dd HH:mm:ss.SSS");
+        DateTime dt = new DateTime(2004, 6, 9, 10, 20, 30, 40, UTC);
+        assertEquals("2004-06-09 10:20:30.040", g.print(dt));
+        assertEquals("2004-06-09 06:20:30.040", g.withZone(NEWYORK).print(dt));
+        assertEquals("2547-06-09 12:20:30.040", g.withChronology(BUDDHIST_PARIS).print(dt));
+        
+        dt = new DateTime(-5, 3, 1, 23, 59, 59, 999, JulianChronology.getInstanceUTC());
+        assertEquals("-0005-03-01 23:59:59.999", g.print(dt));
+        assertEquals("-5 3 1 23 59 59", DateTimeFormat.forPattern("y M d H m s").print(dt));
+    }
+
     //-----------------------------------------------------------------------
     public void testPrint_bufferMethods() throws Exception {
         DateTime dt = new DateTime(2004, 6, 9, 10, 20, 30, 40, UTC);
@@ -990,6 +1014,487 @@ public class TestDateTimeFormatter extends TestCase {
         assertEquals(10512, f.parseMillis("10.512999"));
     }
 
+    public void testParseMillis_bytes() throws Exception {
+        DateTimeFormatter f = DateTimeFormat.forPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(NEWYORK);
+        long expected = new DateTime(2004, 6, 9, 10, 20, 30, 40, NEWYORK).getMillis();
+        byte[] bytes = "ts=2004-06-09 10:20:30.040;".getBytes("US-ASCII");
+        assertEquals(expected, f.parseMillis(bytes, 3, 23));
+        try {
+            f.parseMillis(bytes, 3, 24);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            assertEquals("Invalid format: \"2004-06-09 10:20:30.040;\" is malformed at \";\"", ex.getMessage());
+        }
+        try {
+            f.parseMillis(bytes, 5, 23);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {
+            // expected
+        }
+        
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.position(3).limit(26);
+        assertEquals(expected, f.parseMillis(buffer));
+        assertEquals(26, buffer.position());
+        
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).position(3).limit(26);
+        assertEquals(expected, f.parseMillis(direct));
+        assertEquals(26, direct.position());
+        direct.position(3).limit(19);
+        try {
+            f.parseMillis(direct);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            assertEquals(3, direct.position());
+        }
+    }
+
+    public void testParseMillis_bytesText() throws Exception {
+        DateTimeFormatter f = DateTimeFormat.forPattern("EEE, d MMM yyyy HH:mm").withLocale(Locale.ENGLISH).withZoneUTC();
+        byte[] bytes = "Wed, 9 Jun 2004 10:20".getBytes("US-ASCII");
+        assertEquals(new DateTime(2004, 6, 9, 10, 20, UTC).getMillis(), f.parseMillis(bytes, 0, bytes.length));
+    }
+
+    public void testPrintTo_bytes() throws Exception {
+        DateTimeFormatter f = DateTimeFormat.forPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(NEWYORK);
+        long millis = new DateTime(2004, 6, 9, 10, 20, 30, 40, NEWYORK).getMillis();
+        byte[] bytes = new byte[30];
+        assertEquals(23, f.printTo(bytes, 2, millis));
+        assertEquals("2004-06-09 10:20:30.040", new String(bytes, 2, 23, "US-ASCII"));
+        assertEquals(0, bytes[1]);
+        assertEquals(0, bytes[25]);
+        try {
+            f.printTo(bytes, 8, millis);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {
+            // expected
+        }
+        
+        ByteBuffer buffer = ByteBuffer.allocateDirect(30);
+        buffer.position(4);
+        f.printTo(buffer, millis);
+        assertEquals(27, buffer.position());
+        byte[] printed = new byte[23];
+        buffer.position(4);
+        buffer.get(printed);
+        assertEquals("2004-06-09 10:20:30.040", new String(printed, "US-ASCII"));
+        buffer.position(8);
+        try {
+            f.printTo(buffer, millis);
+            fail();
+        } catch (BufferOverflowException ex) {
+            assertEquals(8, buffer.position());
+        }
+    }
+
+    public void testPrintTo_context() throws Exception {
+        DateTimeFormatter f = DateTimeFormat.forPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(NEWYORK);
+        DateTimeFormatter iso = ISODateTimeFormat.dateTime().withZone(TOKYO);
+        DateTimePrintContext context = new DateTimePrintContext();
+        byte[] bytes = new byte[30];
+        for (int i = 0; i < 3; i++) {
+            long millis = new DateTime(2004 + i, 6, 9, 10, 20, 30, 40, NEWYORK).getMillis();
+            assertEquals(23, f.printTo(bytes, 0, millis, context));
+            assertEquals(f.print(millis), new String(bytes, 0, 23, "US-ASCII"));
+            ByteBuffer buffer = ByteBuffer.allocate(30);
+            iso.printTo(buffer, millis, context);
+            assertEquals(iso.print(millis), new String(buffer.array(), 0, buffer.position(), "US-ASCII"));
+            StringBuilder buf = new StringBuilder();
+            iso.printTo(buf, millis, context);
+            assertEquals(iso.print(millis), buf.toString());
+            buf.setLength(0);
+            iso.printTo(buf, millis, (DateTimePrintContext) null);
+            assertEquals(iso.print(millis), buf.toString());
+        }
+    }
+
+    public void testPrintTo_contextNested() throws Exception {
+        final DateTimePrintContext context = new DateTimePrintContext();
+        final DateTimeFormatter inner = DateTimeFormat.forPattern("HH:mm").withZoneUTC();
+        DateTimePrinter printer = new DateTimePrinter() {
+            public int estimatePrintedLength() {
+                return 5;
+            }
+            public void printTo(StringBuffer buf, long instant, Chronology chrono,
+                    int displayOffset, DateTimeZone displayZone, Locale locale) {
+                byte[] bytes = new byte[5];
+                inner.printTo(bytes, 0, instant + 61001, context);
+                buf.append(new String(bytes));
+            }
+            public void printTo(Writer out, long instant, Chronology chrono,
+                    int displayOffset, DateTimeZone displayZone, Locale locale) {
+                throw new UnsupportedOperationException();
+            }
+            public void printTo(StringBuffer buf, ReadablePartial partial, Locale locale) {
+                throw new UnsupportedOperationException();
+            }
+            public void printTo(Writer out, ReadablePartial partial, Locale locale) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        DateTimeFormatter outer = new DateTimeFormatterBuilder()
+            .appendPattern("yyyy-MM-dd HH:mm ").append(printer).appendPattern(" ss.SSS")
+            .toFormatter().withZoneUTC();
+        long millis = new DateTime(2004, 6, 9, 10, 20, 30, 40, UTC).getMillis();
+        byte[] bytes = new byte[30];
+        assertEquals(29, outer.printTo(bytes, 0, millis, context));
+        assertEquals("2004-06-09 10:20 10:21 30.040", new String(bytes, 0, 29, "US-ASCII"));
+        assertEquals(5, inner.printTo(bytes, 0, millis, context));
+        assertEquals("10:20", new String(bytes, 0, 5, "US-ASCII"));
+    }
+
+    public void testPrintTo_bytesNotAscii() throws Exception {
+        long millis = new DateTime(2004, 2, 9, 10, 20, UTC).getMillis();
+        byte[] bytes = new byte[20];
+        DateTimeFormatter f = DateTimeFormat.forPattern("d MMMM").withLocale(Locale.FRENCH).withZoneUTC();
+        int len = f.printTo(bytes, 0, millis);
+        assertEquals("9 f\u00e9vrier", new String(bytes, 0, len, "ISO-8859-1"));
+        f = DateTimeFormat.forPattern("d MMMM").withLocale(new Locale("ru")).withZoneUTC();
+        len = f.printTo(bytes, 0, millis);
+        String text = f.print(millis);
+        assertEquals(text.length(), len);
+        assertEquals(text.replaceAll("[^\\u0000-\\u00ff]", "?"), new String(bytes, 0, len, "ISO-8859-1"));
+    }
+
+    public void testParseMillis_parsePosition() {
+        DateTimeFormatter f = DateTimeFormat.forPattern("yyyy-MM-dd HH:mm").withZone(NEWYORK);
+        ParsePosition pos = new ParsePosition(0);
+        assertEquals(new DateTime(2004, 6, 9, 10, 20, NEWYORK).getMillis(), f.parseMillis("2004-06-09 10:20", pos));
+        assertEquals(16, pos.getIndex());
+        assertEquals(-1, pos.getErrorIndex());
+        
+        pos = new ParsePosition(3);
+        assertEquals(new DateTime(2004, 6, 9, 10, 20, NEWYORK).getMillis(), f.parseMillis("at 2004-06-09 10:20", pos));
+        assertEquals(19, pos.getIndex());
+        assertEquals(-1, pos.getErrorIndex());
+        
+        // text does not match
+        pos = new ParsePosition(0);
+        assertEquals(0, f.parseMillis("2004-06-09 1x:20", pos));
+        assertEquals(0, pos.getIndex());
+        assertEquals(12, pos.getErrorIndex());
+        
+        // trailing text
+        pos = new ParsePosition(0);
+        assertEquals(0, f.parseMillis("2004-06-09 10:20 ", pos));
+        assertEquals(0, pos.getIndex());
+        assertEquals(16, pos.getErrorIndex());
+        
+        // field out of range
+        pos = new ParsePosition(3);
+        assertEquals(0, f.parseMillis("at 2004-13-09 10:20", pos));
+        assertEquals(3, pos.getIndex());
+        assertEquals(3, pos.getErrorIndex());
+        
+        // field invalid for the date
+        pos = new ParsePosition(0);
+        assertEquals(0, f.parseMillis("2004-02-30 10:20", pos));
+        assertEquals(0, pos.getErrorIndex());
+        
+        // time zone gap
+        pos = new ParsePosition(0);
+        assertEquals(0, f.parseMillis("2004-04-04 02:30", pos));
+        assertEquals(0, pos.getErrorIndex());
+    }
+
+    public void testParseMillis_parsePosition_invalidInContextNotSet() {
+        assertInvalidInContextNotSet(ISO_UTC);
+        assertInvalidInContextNotSet(GJChronology.getInstanceUTC());
+        assertInvalidInContextNotSet(BuddhistChronology.getInstanceUTC());
+        assertInvalidInContextNotSet(LimitChronology.getInstance(ISO_UTC,
+            new DateTime(1960, 1, 1, 0, 0, 0, 0, ISO_UTC), new DateTime(2020, 1, 1, 0, 0, 0, 0, ISO_UTC)));
+    }
+
+    private void assertInvalidInContextNotSet(Chronology chrono) {
+        // a day of month that fails the test if an invalid value is set, as that throws an exception
+        final DateTimeField dayOfMonth = new DelegatedDateTimeField(chrono.dayOfMonth()) {
+            private static final long serialVersionUID = 1L;
+            public long set(long instant, int value) {
+                if (value > getMaximumValue(instant)) {
+                    fail("Invalid day of month set: " + value);
+                }
+                return super.set(instant, value);
+            }
+        };
+        DateTimeParser parser = new DateTimeParser() {
+            public int estimateParsedLength() {
+                return 10;
+            }
+            public int parseInto(DateTimeParserBucket bucket, String text, int position) {
+                bucket.saveField(DateTimeFieldType.year(), Integer.parseInt(text.substring(position, position + 4)));
+                bucket.saveField(DateTimeFieldType.monthOfYear(), Integer.parseInt(text.substring(position + 5, position + 7)));
+                bucket.saveField(dayOfMonth, Integer.parseInt(text.substring(position + 8, position + 10)));
+                return position + 10;
+            }
+        };
+        DateTimeFormatter f = new DateTimeFormatterBuilder().append(parser).toFormatter().withChronology(chrono);
+        ParsePosition pos = new ParsePosition(0);
+        assertEquals(new DateTime(2015, 2, 28, 0, 0, 0, 0, chrono).getMillis(), f.parseMillis("2015-02-28", pos));
+        pos = new ParsePosition(0);
+        assertEquals(0, f.parseMillis("2015-02-30", pos));
+        assertEquals(0, pos.getErrorIndex());
+        pos = new ParsePosition(0);
+        assertEquals(0, f.parseMillis("2015-04-31", pos));
+        assertEquals(0, pos.getErrorIndex());
+        pos = new ParsePosition(0);
+        assertEquals(null, f.parseLocalDate("2014-02-29", pos));
+        assertEquals(0, pos.getErrorIndex());
+    }
+
+    public void testParseMillis_parsePosition_text() {
+        DateTimeFormatter f = DateTimeFormat.forPattern("dd MMM yyyy").withChronology(BuddhistChronology.getInstanceUTC());
+        ParsePosition pos = new ParsePosition(0);
+        assertEquals(new DateTime(2558, 6, 27, 0, 0, 0, 0, BuddhistChronology.getInstanceUTC()).getMillis(),
+            f.parseMillis("27 Jun 2558", pos));
+        pos = new ParsePosition(0);
+        assertEquals(0, f.parseMillis("31 Jun 2558", pos));
+        assertEquals(0, pos.getErrorIndex());
+    }
+
+    public void testParseMillis_parsePosition_textConvertedByField() {
+        // the GJ era and halfday accept only their symbols as text, not digits
+        Chronology gj = GJChronology.getInstanceUTC();
+        assertParseMillisSame(textParser(DateTimeFieldType.era(), "1"), gj, "x", false);
+        assertParseMillisSame(textParser(DateTimeFieldType.era(), "AD"), gj, "x", true);
+        assertParseMillisSame(textParser(DateTimeFieldType.halfdayOfDay(), "1"), gj, "x", false);
+        assertParseMillisSame(textParser(DateTimeFieldType.halfdayOfDay(), "PM"), gj, "x", true);
+        assertParseMillisSame(textParser(DateTimeFieldType.monthOfYear(), "01"), gj, "x", false);
+        assertParseMillisSame(textParser(DateTimeFieldType.monthOfYear(), "12"), gj, "x", true);
+        // other fields accept digits with a sign
+        assertParseMillisSame(textParser(DateTimeFieldType.hourOfDay(), "+1"), ISO_UTC, "x", true);
+    }
+
+    public void testParseMillis_parsePosition_cutover() {
+        DateTimeParser parser = DateTimeFormat.forPattern("yyyy-MM-dd").getParser();
+        Chronology gj = GJChronology.getInstanceUTC();
+        assertParseMillisSame(parser, gj, "1582-10-04", true);
+        assertParseMillisSame(parser, gj, "1582-10-05", false);
+        assertParseMillisSame(parser, gj, "1582-10-14", false);
+        assertParseMillisSame(parser, gj, "1582-10-15", true);
+        assertParseMillisSame(parser, gj, "1582-10-31", true);
+        assertParseMillisSame(parser, gj, "1582-11-31", false);
+        assertParseMillisSame(parser, gj, "1500-02-29", true);
+        assertParseMillisSame(parser, gj, "1582-02-29", false);
+        assertParseMillisSame(parser, gj, "1600-02-29", true);
+        assertParseMillisSame(parser, gj, "1700-02-29", false);
+
+        Chronology buddhist = BuddhistChronology.getInstanceUTC();
+        assertParseMillisSame(parser, buddhist, "2125-10-04", true);
+        assertParseMillisSame(parser, buddhist, "2125-10-10", false);
+        assertParseMillisSame(parser, buddhist, "2125-10-15", true);
+        assertParseMillisSame(parser, buddhist, "2043-02-29", true);
+        assertParseMillisSame(parser, buddhist, "2243-02-29", false);
+        assertParseMillisSame(parser, buddhist, "0000-01-01", false);
+
+        parser = DateTimeFormat.forPattern("yyyy-DDD").getParser();
+        assertParseMillisSame(parser, gj, "1582-355", true);
+        assertParseMillisSame(parser, gj, "1582-356", false);
+        assertParseMillisSame(parser, gj, "1580-366", true);
+    }
+
+    public void testParseMillis_parsePosition_limits() {
+        Chronology limit = LimitChronology.getInstance(ISO_UTC,
+            new DateTime(1960, 1, 1, 0, 0, 0, 0, ISO_UTC), new DateTime(2010, 3, 1, 0, 0, 0, 0, ISO_UTC));
+        DateTimeParser parser = DateTimeFormat.forPattern("yyyy-MM-dd").getParser();
+        assertParseMillisSame(parser, limit, "1960-01-01", true);
+        assertParseMillisSame(parser, limit, "1959-12-31", false);
+        assertParseMillisSame(parser, limit, "2010-02-28", true);
+        assertParseMillisSame(parser, limit, "2010-02-29", false);
+        assertParseMillisSame(parser, limit, "2010-03-01", false);
+        assertParseMillisSame(parser, limit, "2008-02-29", true);
+        assertParseMillisSame(parser, limit, "2008-02-30", false);
+        assertParseMillisSame(parser, limit, "2011-01-01", false);
+
+        limit = LimitChronology.getInstance(GJChronology.getInstanceUTC(),
+            new DateTime(1582, 1, 1, 0, 0, 0, 0, GJChronology.getInstanceUTC()), null);
+        assertParseMillisSame(parser, limit, "1581-12-31", false);
+        assertParseMillisSame(parser, limit, "1582-01-01", true);
+        assertParseMillisSame(parser, limit, "1582-10-04", true);
+        assertParseMillisSame(parser, limit, "1582-10-10", false);
+        assertParseMillisSame(parser, limit, "1582-10-31", true);
+        assertParseMillisSame(parser, limit, "1583-02-29", false);
+
+        parser = DateTimeFormat.forPattern("xxxx-'W'ww-e").getParser();
+        assertParseMillisSame(parser, limit, "2004-W53-1", true);
+        assertParseMillisSame(parser, limit, "2005-W52-1", true);
+        assertParseMillisSame(parser, limit, "2005-W53-1", false);
+    }
+
+    public void testParseMillis_parsePosition_lenient() {
+        Chronology lenient = LenientChronology.getInstance(ISO_UTC);
+        DateTimeParser parser = DateTimeFormat.forPattern("yyyy-MM-dd HH:mm").getParser();
+        assertParseMillisSame(parser, lenient, "2015-02-28 00:00", true);
+        assertParseMillisSame(parser, lenient, "2015-02-30 00:00", true);
+        assertParseMillisSame(parser, lenient, "2015-13-01 00:00", true);
+        assertParseMillisSame(parser, lenient, "2015-00-00 00:00", true);
+        assertParseMillisSame(parser, lenient, "2015-01-01 25:00", true);
+        assertParseMillisSame(parser, lenient, "2015-01-01 23:99", true);
+        
+        Chronology strict = StrictChronology.getInstance(ISO_UTC);
+        assertParseMillisSame(parser, strict, "2016-02-29 00:00", true);
+        assertParseMillisSame(parser, strict, "2015-02-29 00:00", false);
+        assertParseMillisSame(parser, strict, "2015-01-01 24:00", false);
+    }
+
+    public void testParseMillis_parsePosition_skippedYear() {
+        DateTimeParser parser = DateTimeFormat.forPattern("yyyy").getParser();
+        Chronology julian = JulianChronology.getInstanceUTC();
+        int min = julian.year().getMinimumValue();
+        assertParseMillisSame(parser, julian, Integer.toString(min - 1), false);
+        assertParseMillisSame(parser, julian, Integer.toString(min), true);
+        assertParseMillisSame(parser, julian, Integer.toString(min + 1), true);
+        assertParseMillisSame(parser, julian, "-1", true);
+        assertParseMillisSame(parser, julian, "0", false);
+        assertParseMillisSame(parser, julian, "1", true);
+        
+        Chronology coptic = CopticChronology.getInstanceUTC();
+        assertParseMillisSame(parser, coptic, "0", false);
+        assertParseMillisSame(parser, coptic, "1", true);
+        
+        Chronology buddhist = BuddhistChronology.getInstanceUTC();
+        int max = buddhist.year().getMaximumValue();
+        assertParseMillisSame(parser, buddhist, "0", false);
+        assertParseMillisSame(parser, buddhist, "1", true);
+        assertParseMillisSame(parser, buddhist, Integer.toString(max), true);
+        assertParseMillisSame(parser, buddhist, Integer.toString(max + 1), false);
+        
+        // the weekyear checks the absolute value when set
+        parser = DateTimeFormat.forPattern("xxxx").getParser();
+        min = ISO_UTC.weekyear().getMinimumValue();
+        assertParseMillisSame(parser, ISO_UTC, Integer.toString(min - 1), true);
+        assertParseMillisSame(parser, ISO_UTC.withZone(LONDON), Integer.toString(min - 1), true);
+    }
+
+    private static DateTimeParser textParser(final DateTimeFieldType type, final String value) {
+        return new DateTimeParser() {
+            public int estimateParsedLength() {
+                return 1;
+            }
+            public int parseInto(DateTimeParserBucket bucket, String text, int position) {
+                bucket.saveField(type, value, Locale.ENGLISH);
+                return position + 1;
+            }
+        };
+    }
+
+    private static void assertParseMillisSame(DateTimeParser parser, Chronology chrono, String text, boolean valid) {
+        DateTimeFormatter f = new DateTimeFormatterBuilder().append(parser).toFormatter().withChronology(chrono);
+        ParsePosition pos = new ParsePosition(0);
+        long quiet = f.parseMillis(text, pos);
+        try {
+            long millis = f.parseMillis(text);
+            assertEquals(text, true, valid);
+            assertEquals(text, -1, pos.getErrorIndex());
+            assertEquals(text, millis, quiet);
+        } catch (IllegalArgumentException ex) {
+            assertEquals(text, false, valid);
+            assertEquals(text, 0, pos.getErrorIndex());
+            assertEquals(text, 0, quiet);
+        }
+    }
+
+    public void testParseLocalDateTime_parsePosition() {
+        DateTimeFormatter f = DateTimeFormat.forPattern("yyyy-MM-dd HH:mm").withZone(NEWYORK);
+        ParsePosition pos = new ParsePosition(0);
+        assertEquals(new LocalDateTime(2004, 4, 4, 2, 30), f.parseLocalDateTime("2004-04-04 02:30", pos));
+        assertEquals(16, pos.getIndex());
+        pos = new ParsePosition(0);
+        assertEquals(new LocalDate(2004, 4, 4), f.parseLocalDate("2004-04-04 02:30", pos));
+        pos = new ParsePosition(0);
+        assertEquals(new LocalTime(2, 30), f.parseLocalTime("2004-04-04 02:30", pos));
+        
+        pos = new ParsePosition(0);
+        assertEquals(null, f.parseLocalDateTime("2004-04-04 02:", pos));
+        assertEquals(14, pos.getErrorIndex());
+        pos = new ParsePosition(0);
+        assertEquals(null, f.parseLocalDate("2004-04-31 02:30", pos));
+        assertEquals(0, pos.getErrorIndex());
+        pos = new ParsePosition(0);
+        assertEquals(null, f.parseLocalTime("2004-04-04 24:30", pos));
+        assertEquals(0, pos.getErrorIndex());
+    }
+
+    public void testParseDateTime_parsePosition() {
+        DateTimeFormatter f = DateTimeFormat.forPattern("yyyy-MM-dd HH:mm Z").withZone(PARIS);
+        ParsePosition pos = new ParsePosition(0);
+        assertEquals(new DateTime(2004, 6, 9, 12, 20, PARIS), f.parseDateTime("2004-06-09 10:20 +0000", pos));
+        assertEquals(22, pos.getIndex());
+        
+        pos = new ParsePosition(0);
+        assertEquals(new DateTime(2004, 6, 9, 10, 20, UTC), f.withOffsetParsed().parseDateTime("2004-06-09 10:20 +0000", pos));
+        
+        pos = new ParsePosition(0);
+        assertEquals(null, f.parseDateTime("2004-06-09 10:20 x0000", pos));
+        assertEquals(17, pos.getErrorIndex());
+    }
+
+    public void testParseMillis_context() {
+        DateTimeFormatter f = DateTimeFormat.forPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(LONDON);
+        DateTimeFormatter g = DateTimeFormat.forPattern("yyyy-MM-dd HH:mm:ss.SSS Z").withZone(PARIS).withLocale(Locale.FRANCE);
+        DateTimeFormatter h = DateTimeFormat.forPattern("MM-dd").withZone(LONDON).withDefaultYear(2012);
+        DateTimeParseContext context = new DateTimeParseContext();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(new DateTime(2004, 6, 9, 10, 20, 30, 40, LONDON).getMillis(), f.parseMillis("2004-06-09 10:20:30.040", context));
+            assertEquals(new DateTime(2004, 6, 9, 10, 20, 30, 40, LONDON).getMillis(), f.parseMillis("2004-06-09 10:20:30.040", context));
+            assertEquals(new DateTime(2004, 6, 9, 10, 20, 30, 40, TOKYO).getMillis(), g.parseMillis("2004-06-09 10:20:30.040 +0900", context));
+            assertEquals(new DateTime(2012, 2, 29, 0, 0, 0, 0, LONDON).getMillis(), h.parseMillis("02-29", context));
+            byte[] bytes = "2004-06-09 10:20:30.040 +0900".getBytes();
+            assertEquals(new DateTime(2004, 6, 9, 10, 20, 30, 40, TOKYO).getMillis(), g.parseMillis(bytes, 0, bytes.length, context));
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            assertEquals(new DateTime(2004, 6, 9, 10, 20, 30, 40, TOKYO).getMillis(), g.parseMillis(buffer, context));
+            assertEquals(bytes.length, buffer.position());
+            ParsePosition pos = new ParsePosition(0);
+            assertEquals(0, f.parseMillis("2004-06-09 10:20:30.040 +0900", pos, context));
+            assertEquals(23, pos.getErrorIndex());
+            pos = new ParsePosition(0);
+            assertEquals(new DateTime(2004, 6, 9, 10, 20, 30, 40, LONDON).getMillis(), f.parseMillis("2004-06-09 10:20:30.040", pos, context));
+            assertEquals(23, pos.getIndex());
+            try {
+                f.parseMillis("2004-06-09 10:20:30.040 +0900", context);
+                fail();
+            } catch (IllegalArgumentException ex) {
+                // expected
+            }
+            if (i == 1) {
+                context.clear();
+            }
+        }
+        assertEquals(new DateTime(2004, 6, 9, 10, 20, 30, 40, LONDON).getMillis(), f.parseMillis("2004-06-09 10:20:30.040", (DateTimeParseContext) null));
+    }
+
+    public void testParseMillis_fractionChronologies() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder()
+            .appendPattern("yyyy-MM-dd HH:mm:ss").appendLiteral('.').appendFractionOfSecond(1, 9)
+            .toFormatter().withZoneUTC();
+        Chronology limit = LimitChronology.getInstance(ISO_UTC, null, new DateTime(2010, 1, 1, 0, 0, 0, 0, UTC));
+        for (int i = 0; i < 2; i++) {
+            assertEquals(new DateTime(2004, 6, 9, 10, 20, 30, 40, UTC).getMillis(), f.parseMillis("2004-06-09 10:20:30.04"));
+            assertEquals(new DateTime(2004, 6, 9, 10, 20, 30, 40, limit).getMillis(),
+                f.withChronology(limit).parseMillis("2004-06-09 10:20:30.04"));
+        }
+    }
+
+    public void testParseMillis_contextNested() {
+        final DateTimeParseContext context = new DateTimeParseContext();
+        final DateTimeFormatter inner = DateTimeFormat.forPattern("HH").withZoneUTC();
+        DateTimeParser parser = new DateTimeParser() {
+            public int estimateParsedLength() {
+                return 2;
+            }
+            public int parseInto(DateTimeParserBucket bucket, String text, int position) {
+                bucket.saveField(DateTimeFieldType.year(), 2015);
+                long millis = inner.parseMillis(text.substring(position, position + 2), context);
+                bucket.saveField(DateTimeFieldType.hourOfDay(), (int) (millis / DateTimeConstants.MILLIS_PER_HOUR));
+                return position + 2;
+            }
+        };
+        DateTimeFormatter outer = new DateTimeFormatterBuilder().append(parser).toFormatter().withZoneUTC();
+        assertEquals(new DateTime(2015, 1, 1, 10, 0, 0, 0, UTC).getMillis(), outer.parseMillis("10", context));
+        assertEquals(new DateTime(2015, 1, 1, 12, 0, 0, 0, UTC).getMillis(), outer.parseMillis("12", context));
+        assertEquals(new DateTime(1970, 1, 1, 11, 0, 0, 0, UTC).getMillis(), inner.parseMillis("11", context));
+    }
+
     //-----------------------------------------------------------------------
     // Ensure time zone name switches properly at the zone DST transition.
     public void testZoneNameNearTransition() {
@@ -27,6 +27,7 @@ import junit.framework.TestSuite;
 
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeFieldType;
+import org.joda.time.DateTimeUtils;
 import org.joda.time.DateTimeZone;
 import org.joda.time.LocalDateTime;
 
@@ -435,6 +436,19 @@ public class TestDateTimeFormatterBuilder extends TestCase {
         assertEquals(dt, f.parseDateTime("2007-03-04 12:30 America/Dawson_Creek"));
     }
 
+    public void test_parseZoneId_prefixes() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder().appendTimeZoneId().toFormatter();
+        
+        assertEquals(DateTimeZone.forID("EST"), f.withOffsetParsed().parseDateTime("EST").getZone());
+        assertEquals(DateTimeZone.forID("EST5EDT"), f.withOffsetParsed().parseDateTime("EST5EDT").getZone());
+        assertEquals(DateTimeZone.forID("Etc/GMT+1"), f.withOffsetParsed().parseDateTime("Etc/GMT+1").getZone());
+        assertEquals(DateTimeZone.forID("Etc/GMT+10"), f.withOffsetParsed().parseDateTime("Etc/GMT+10").getZone());
+        
+        DateTimeParser p = f.getParser();
+        assertEquals(~0, p.parseInto(new DateTimeParserBucket(0, null, null), "America/", 0));
+        assertEquals(2 + 14, p.parseInto(new DateTimeParserBucket(0, null, null), "--America/Dawson_", 2));
+    }
+
     public void test_printParseZoneBahiaBanderas() {
         DateTimeFormatterBuilder bld = new DateTimeFormatterBuilder()
             .appendPattern("yyyy-MM-dd HH:mm ").appendTimeZoneId();
@@ -594,6 +608,36 @@ public class TestDateTimeFormatterBuilder extends TestCase {
         }
     }
 
+    public void test_parseShortNameWithAutoLookup_longestMatch() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder()
+            .appendTimeZoneShortName(null).toFormatter().withOffsetParsed();
+        DateTimeParser p = f.getParser();
+        
+        assertEquals(2, p.parseInto(new DateTimeParserBucket(0, null, null), "UT", 0));
+        assertEquals(3, p.parseInto(new DateTimeParserBucket(0, null, null), "UTC", 0));
+        assertEquals(2, p.parseInto(new DateTimeParserBucket(0, null, null), "UTX", 0));
+        assertEquals(~0, p.parseInto(new DateTimeParserBucket(0, null, null), "XYZ", 0));
+        assertEquals(NEW_YORK, f.parseDateTime("EST").getZone());
+    }
+
+    public void test_parseShortNameWithAutoLookup_defaultChanged() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder()
+            .appendTimeZoneShortName(null).toFormatter().withOffsetParsed();
+        Map<String, DateTimeZone> original = DateTimeUtils.getDefaultTimeZoneNames();
+        try {
+            assertEquals(NEW_YORK, f.parseDateTime("EST").getZone());
+            Map<String, DateTimeZone> names = new LinkedHashMap<String, DateTimeZone>();
+            names.put("EST", LOS_ANGELES);
+            names.put("JST", TOKYO);
+            DateTimeUtils.setDefaultTimeZoneNames(names);
+            assertEquals(LOS_ANGELES, f.parseDateTime("EST").getZone());
+            assertEquals(TOKYO, f.parseDateTime("JST").getZone());
+        } finally {
+            DateTimeUtils.setDefaultTimeZoneNames(original);
+        }
+        assertEquals(NEW_YORK, f.parseDateTime("EST").getZone());
+    }
+
     public void test_printParseShortNameWithAutoLookup() {
         DateTimeFormatterBuilder bld = new DateTimeFormatterBuilder()
             .appendPattern("yyyy-MM-dd HH:mm ").appendTimeZoneShortName(null);
@@ -271,6 +271,47 @@ public class TestDateTimeParserBucket extends TestCase {
         assertEquals(100 - OFFSET_0400, test.computeMillis(false));
     }
 
+    public void testAcquire() {
+        DateTimeParserBucket test = new DateTimeParserBucket(0, ISO_0400, LOCALE, 2000, 2001);
+        test.setOffset((Integer) 200);
+        test.saveField(DateTimeFieldType.hourOfDay(), 2);
+        assertEquals(true, test.acquire(ISO_0400, LOCALE, 2000, 2001));
+        assertEquals(true, test.isInUse());
+        assertEquals(null, test.getOffsetInteger());
+        assertEquals(-OFFSET_0400, test.computeMillis(false));
+        
+        // cannot be acquired twice
+        assertEquals(false, test.acquire(ISO_0400, LOCALE, 2000, 2001));
+        test.release();
+        assertEquals(false, test.isInUse());
+        assertEquals(true, test.acquire(ISO_0400, LOCALE, 2000, 2001));
+        test.release();
+        
+        // settings must match
+        assertEquals(false, test.acquire(ISO_UTC, LOCALE, 2000, 2001));
+        assertEquals(false, test.acquire(BUDDHIST_PARIS, LOCALE, 2000, 2001));
+        assertEquals(false, test.acquire(ISO_0400, Locale.FRANCE, 2000, 2001));
+        assertEquals(false, test.acquire(ISO_0400, LOCALE, null, 2001));
+        assertEquals(false, test.acquire(ISO_0400, LOCALE, 2000, 2000));
+        assertEquals(false, test.isInUse());
+        
+        // only buckets for the start of 1970
+        assertEquals(false, new DateTimeParserBucket(100, ISO_0400, LOCALE, 2000, 2001).acquire(ISO_0400, LOCALE, 2000, 2001));
+    }
+
+    public void testSetOffset_zero() {
+        DateTimeParserBucket test = new DateTimeParserBucket(0, ISO_0400, LOCALE, 2000, 2000);
+        test.setOffsetMillis(0);
+        assertEquals((Integer) 0, test.getOffsetInteger());
+        assertEquals(0, test.computeMillis(false));
+        Object state = test.saveState();
+        test.setOffset(null);
+        assertEquals(null, test.getOffsetInteger());
+        assertEquals(-OFFSET_0400, test.computeMillis(false));
+        assertEquals(true, test.restoreState(state));
+        assertEquals((Integer) 0, test.getOffsetInteger());
+    }
+
     public void testParse() {
         DateTimeParserBucket test = new DateTimeParserBucket(0, ISO_0400, LOCALE, 2000, 2000);
         DateTimeParser parser = new DateTimeParser() {
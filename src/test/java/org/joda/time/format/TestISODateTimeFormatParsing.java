@@ -23,6 +23,7 @@ import junit.framework.TestSuite;
 
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDateTime;
 
 /**
  * This class is a Junit unit test for ISODateTimeFormat parsing.
@@ -352,6 +353,43 @@ public class TestISODateTimeFormatParsing extends TestCase {
         assertNoPrint(parser);
     }
 
+    //-----------------------------------------------------------------------
+    public void test_dateTimeParser_extended() {
+        DateTimeZone offset = DateTimeZone.forOffsetHoursMinutes(-5, -30);
+        DateTimeFormatter[] parsers = {
+            ISODateTimeFormat.dateTimeParser(), ISODateTimeFormat.dateOptionalTimeParser()};
+        for (DateTimeFormatter parser : parsers) {
+            assertParse(parser, "2006-06-09", new DateTime(2006, 6, 9, 0, 0, 0, 0));
+            assertParse(parser, "2006-06-09T10:20", new DateTime(2006, 6, 9, 10, 20, 0, 0));
+            assertParse(parser, "2006-06-09T10:20:30", new DateTime(2006, 6, 9, 10, 20, 30, 0));
+            assertParse(parser, "2006-06-09T10:20:30.5", new DateTime(2006, 6, 9, 10, 20, 30, 500));
+            assertParse(parser, "2006-06-09T10:20:30.123456789", new DateTime(2006, 6, 9, 10, 20, 30, 123));
+            assertParse(parser, "2006-06-09T10:20:30.040Z", new DateTime(2006, 6, 9, 11, 20, 30, 40));
+            assertParse(parser, "2006-06-09T10:20-05:30", new DateTime(2006, 6, 9, 16, 50, 0, 0));
+            assertEquals(new DateTime(2006, 6, 9, 10, 20, 30, 40, offset),
+                parser.withOffsetParsed().parseDateTime("2006-06-09T10:20:30.040-05:30"));
+            
+            // handled by the general parser
+            assertParse(parser, "2006-6-9T10:20", new DateTime(2006, 6, 9, 10, 20, 0, 0));
+            assertParse(parser, "2006-06-09T10:20:30,040+01:00", new DateTime(2006, 6, 9, 10, 20, 30, 40));
+            assertParse(parser, "2006-06-09T10:20:30.040z", new DateTime(2006, 6, 9, 11, 20, 30, 40));
+            assertParse(parser, "2006-06-09T10:20:30.040+0100", new DateTime(2006, 6, 9, 10, 20, 30, 40));
+            assertParse(parser, "2006-06-09T10.5", new DateTime(2006, 6, 9, 10, 30, 0, 0));
+            assertParse(parser, "12006-06-09T10:20", new DateTime(12006, 6, 9, 10, 20, 0, 0));
+            
+            assertParse(parser, false, "2006-06-09T10:20:30.0401234567");
+            assertParse(parser, false, "2006-13-09T10:20:30");
+            assertParse(parser, false, "2006-06-09T10:20+24:00");
+            assertParse(parser, false, "2006-06-09T10:20Z ");
+            assertParse(parser, false, "2006-06-09T10:20:");
+        }
+        
+        DateTimeFormatter parser = ISODateTimeFormat.localDateOptionalTimeParser();
+        assertEquals(new LocalDateTime(2006, 6, 9, 10, 20, 30, 40), parser.parseLocalDateTime("2006-06-09T10:20:30.040"));
+        assertParse(parser, false, "2006-06-09T10:20:30.040Z");
+        assertParse(parser, false, "2006-06-09T10:20:30.040+01:00");
+    }
+
     //-----------------------------------------------------------------------
     //-----------------------------------------------------------------------
     //-----------------------------------------------------------------------
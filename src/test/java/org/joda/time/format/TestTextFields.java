@@ -24,6 +24,8 @@ import org.joda.time.Chronology;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
 import org.joda.time.MutableDateTime;
+import org.joda.time.chrono.CopticChronology;
+import org.joda.time.chrono.GJChronology;
 import org.joda.time.chrono.ISOChronology;
 
 /**
@@ -148,4 +150,46 @@ public class TestTextFields extends TestCase {
             }
         }
     }
+
+    //-----------------------------------------------------------------------
+    public void testParseMonthNames() {
+        DateTimeFormatter parser = DateTimeFormat.forPattern("MMMM yyyy").withZoneUTC();
+        for (int month=1; month<=12; month++) {
+            String name = MONTHS[month];
+            assertEquals(month, parser.parseDateTime(name + " 2004").getMonthOfYear());
+            assertEquals(month, parser.parseDateTime(name.toUpperCase() + " 2004").getMonthOfYear());
+            assertEquals(month, parser.parseDateTime(name.toLowerCase() + " 2004").getMonthOfYear());
+            assertEquals(month, parser.parseDateTime(name.substring(0, 3) + " 2004").getMonthOfYear());
+        }
+        assertEquals(3, parser.parseDateTime("mArCh 2004").getMonthOfYear());
+        try {
+            parser.parseDateTime("Marc 2004");
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    public void testParseWeekdayAndEraNames() {
+        DateTimeFormatter parser = DateTimeFormat.forPattern("EEE, d MMM YYYY G").withZoneUTC();
+        DateTime dt = parser.parseDateTime("Mon, 12 Jan 2015 AD");
+        assertEquals(new DateTime(2015, 1, 12, 0, 0, DateTimeZone.UTC), dt);
+        assertEquals(dt, parser.parseDateTime("MONDAY, 12 JAN 2015 ce"));
+        assertEquals(-2014, parser.parseDateTime("Sat, 12 Jan 2015 BCE").getYear());
+    }
+
+    public void testParseNames_otherChronology() {
+        // the text is parsed by the chronology, which may not support it
+        DateTimeFormatter parser = DateTimeFormat.forPattern("d MMMM yyyy");
+        DateTime dt = parser.withChronology(GJChronology.getInstanceUTC()).parseDateTime("5 january 1500");
+        assertEquals(1, dt.getMonthOfYear());
+        assertEquals(new DateTime(1500, 1, 5, 0, 0, GJChronology.getInstanceUTC()), dt);
+        try {
+            parser.withChronology(CopticChronology.getInstanceUTC()).parseDateTime("5 january 1731");
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
 }
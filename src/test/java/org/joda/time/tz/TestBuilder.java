@@ -274,6 +274,36 @@ public class TestBuilder extends TestCase {
         }
     }
 
+    public void testTailTransitions() {
+        // Transitions fall close to the start and middle of each UTC year
+        DateTimeZone tz = new DateTimeZoneBuilder()
+            .setStandardOffset(36000000)
+            .addRecurringSavings("DST", 3600000, 2000, Integer.MAX_VALUE, 'w', 1, 1, 0, false, 0)
+            .addRecurringSavings("STD",       0, 2000, Integer.MAX_VALUE, 'w', 7, 1, 0, false, 0)
+            .toDateTimeZone("Test/Tail", true);
+
+        for (int year = 2030; year < 2600; year += 7) {
+            long summerEnd = new DateTime(year, 6, 30, 13, 0, DateTimeZone.UTC).getMillis();
+            long summerStart = new DateTime(year, 12, 31, 14, 0, DateTimeZone.UTC).getMillis();
+            long june = new DateTime(year, 6, 1, 0, 0, DateTimeZone.UTC).getMillis();
+
+            assertEquals(summerEnd, tz.nextTransition(june));
+            assertEquals(summerStart, tz.nextTransition(summerEnd));
+            assertEquals(summerEnd, tz.nextTransition(summerEnd - 1));
+            assertEquals(summerEnd - 1, tz.previousTransition(summerEnd));
+            assertEquals(summerEnd - 1, tz.previousTransition(summerStart - 1));
+            assertEquals(summerStart - 1, tz.previousTransition(summerStart));
+
+            assertEquals(39600000, tz.getOffset(summerEnd - 1));
+            assertEquals("DST", tz.getNameKey(summerEnd - 1));
+            assertEquals(36000000, tz.getOffset(summerEnd));
+            assertEquals("STD", tz.getNameKey(summerEnd));
+            assertEquals(36000000, tz.getOffset(summerStart - 1));
+            assertEquals(39600000, tz.getOffset(summerStart));
+            assertEquals(36000000, tz.getStandardOffset(summerStart));
+        }
+    }
+
     public void testSerialization() throws IOException {
         DateTimeZone tz = testSerialization
             (buildAmericaLosAngelesBuilder(), "America/Los_Angeles");
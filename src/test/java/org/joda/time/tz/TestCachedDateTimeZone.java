@@ -19,6 +19,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.Random;
 
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
@@ -61,6 +62,37 @@ public class TestCachedDateTimeZone extends TestCase {
         assertSame(zone1, zone2);
     }
 
+    public void test_matchesUncached() throws Exception {
+        String[] ids = {"Europe/Paris", "America/New_York", "Australia/Lord_Howe", "Asia/Kolkata", "America/Sao_Paulo"};
+        Random random = new Random(1234L);
+        for (int i = 0; i < ids.length; i++) {
+            CachedDateTimeZone zone = CachedDateTimeZone.forZone(DateTimeZone.forID(ids[i]));
+            DateTimeZone uncached = zone.getUncachedZone();
+            // random instants between 1900 and 2100
+            for (int j = 0; j < 2000; j++) {
+                long millis = -2208988800000L + (long) (random.nextDouble() * 6311433600000L);
+                assertSameInfo(zone, uncached, millis);
+            }
+            // either side of each transition from 1960 to 2050
+            long millis = -315619200000L;
+            while (millis < 2524608000000L) {
+                long next = uncached.nextTransition(millis);
+                if (next == millis) {
+                    break;
+                }
+                assertSameInfo(zone, uncached, next - 1);
+                assertSameInfo(zone, uncached, next);
+                millis = next;
+            }
+        }
+    }
+
+    private void assertSameInfo(DateTimeZone zone, DateTimeZone uncached, long millis) {
+        assertEquals(uncached.getOffset(millis), zone.getOffset(millis));
+        assertEquals(uncached.getStandardOffset(millis), zone.getStandardOffset(millis));
+        assertEquals(uncached.getNameKey(millis), zone.getNameKey(millis));
+    }
+
     //-----------------------------------------------------------------------
     public void testSerialization() throws Exception {
         CachedDateTimeZone test = CachedDateTimeZone.forZone(DateTimeZone.forID("Europe/Paris"));
@@ -118,6 +118,44 @@ public class TestCompiler extends TestCase {
         TestBuilder.testReverseTransitions(tz, TestBuilder.AMERICA_LOS_ANGELES_DATA);
     }
 
+    public void testCompileDatabase() throws Exception {
+        File tempDir = createDataFile(AMERICA_LOS_ANGELES_FILE + "\n" +
+            "Link America/Los_Angeles US/Pacific\n");
+        File destDir = makeTempDir();
+        File dbFile = new File(destDir, "tzdb.dat");
+
+        ZoneInfoCompiler.main(new String[] {
+            "-src", tempDir.getAbsolutePath(),
+            "-db", dbFile.getAbsolutePath(),
+            "tzdata"
+        });
+        deleteOnExit(destDir);
+
+        Provider provider = new MappedZoneInfoProvider(dbFile);
+        assertEquals(true, provider.getAvailableIDs().contains("UTC"));
+        assertEquals(true, provider.getAvailableIDs().contains("US/Pacific"));
+        assertSame(DateTimeZone.UTC, provider.getZone("UTC"));
+        assertEquals(null, provider.getZone("Europe/London"));
+
+        DateTimeZone tz = provider.getZone("America/Los_Angeles");
+        assertEquals("America/Los_Angeles", tz.getID());
+        assertEquals(false, tz.isFixed());
+        assertSame(tz, provider.getZone("America/Los_Angeles"));
+        assertSame(tz, provider.getZone("US/Pacific"));
+        TestBuilder.testForwardTransitions(tz, TestBuilder.AMERICA_LOS_ANGELES_DATA);
+        TestBuilder.testReverseTransitions(tz, TestBuilder.AMERICA_LOS_ANGELES_DATA);
+    }
+
+    public void testCompileDatabase_invalidFile() throws Exception {
+        File tempDir = createDataFile(AMERICA_LOS_ANGELES_FILE);
+        try {
+            new MappedZoneInfoProvider(new File(tempDir, "tzdata"));
+            fail();
+        } catch (IOException ex) {
+            // expected
+        }
+    }
+
     private Provider compileAndLoad(String data) throws Exception {
         File tempDir = createDataFile(data);
         File destDir = makeTempDir();
@@ -0,0 +1,175 @@
+/*
+ *  Copyright 2001-2015 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.tz;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.joda.time.DateTimeZone;
+
+/**
+ * This class is a JUnit test for ZoneInfoProvider.
+ */
+public class TestZoneInfoProvider extends TestCase {
+
+    private static final String DATA = "org/joda/time/tz/data";
+    private static final String SIZE_PROPERTY = "org.joda.time.tz.ZoneInfoProvider.cacheSize";
+    private static final String PINNED_PROPERTY = "org.joda.time.tz.ZoneInfoProvider.pinnedZones";
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestZoneInfoProvider.class);
+    }
+
+    public TestZoneInfoProvider(String name) {
+        super(name);
+    }
+
+    protected void tearDown() throws Exception {
+        System.clearProperty(SIZE_PROPERTY);
+        System.clearProperty(PINNED_PROPERTY);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testGetZone() throws Exception {
+        ZoneInfoProvider p = new ZoneInfoProvider(DATA);
+        assertEquals(128, p.getCacheSize());
+        assertSame(DateTimeZone.UTC, p.getZone("UTC"));
+        assertEquals(null, p.getZone(null));
+        assertEquals(null, p.getZone("Unknown/Zone"));
+        assertEquals(0, p.getLoadCount());
+
+        DateTimeZone zone = p.getZone("Europe/London");
+        assertEquals("Europe/London", zone.getID());
+        assertSame(zone, p.getZone("Europe/London"));
+        assertSame(zone, p.getZone("GB"));
+        assertEquals(1, p.getLoadCount());
+        assertEquals(1, p.getMissCount());
+        assertEquals(3, p.getHitCount());
+    }
+
+    public void testEvictLeastRecentlyUsed() throws Exception {
+        System.setProperty(SIZE_PROPERTY, "2");
+        ZoneInfoProvider p = new ZoneInfoProvider(DATA);
+        assertEquals(2, p.getCacheSize());
+
+        DateTimeZone london = p.getZone("Europe/London");
+        DateTimeZone paris = p.getZone("Europe/Paris");
+        assertSame(london, p.getZone("Europe/London"));
+        p.getZone("Asia/Tokyo");  // evicts Paris
+        assertEquals(3, p.getLoadCount());
+
+        assertSame(london, p.getZone("Europe/London"));
+        assertEquals(3, p.getLoadCount());
+        DateTimeZone reloaded = p.getZone("Europe/Paris");  // evicts Tokyo
+        assertNotSame(paris, reloaded);
+        assertEquals(paris, reloaded);
+        assertEquals(4, p.getLoadCount());
+        assertEquals(4, p.getMissCount());
+    }
+
+    public void testLoadDifferentZonesConcurrently() throws Exception {
+        final CountDownLatch londonLoading = new CountDownLatch(1);
+        final CountDownLatch londonRelease = new CountDownLatch(1);
+        final ZoneInfoProvider p = new ZoneInfoProvider(DATA) {
+            DateTimeZone loadZoneData(String id) {
+                if (id.equals("Europe/London")) {
+                    londonLoading.countDown();
+                    try {
+                        londonRelease.await();
+                    } catch (InterruptedException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                }
+                return super.loadZoneData(id);
+            }
+        };
+        final DateTimeZone[] london = new DateTimeZone[2];
+        Thread[] threads = new Thread[2];
+        for (int i = 0; i < threads.length; i++) {
+            final int index = i;
+            threads[i] = new Thread() {
+                public void run() {
+                    london[index] = p.getZone("Europe/London");
+                }
+            };
+            threads[i].start();
+        }
+        assertEquals(true, londonLoading.await(10, TimeUnit.SECONDS));
+
+        // another zone loads while London is loading
+        final DateTimeZone[] tokyo = new DateTimeZone[1];
+        Thread tokyoThread = new Thread() {
+            public void run() {
+                tokyo[0] = p.getZone("Asia/Tokyo");
+            }
+        };
+        tokyoThread.start();
+        tokyoThread.join(10000);
+        assertEquals("Asia/Tokyo", tokyo[0].getID());
+
+        londonRelease.countDown();
+        for (int i = 0; i < threads.length; i++) {
+            threads[i].join(10000);
+        }
+        assertEquals("Europe/London", london[0].getID());
+        assertSame(london[0], london[1]);
+        assertSame(london[0], p.getZone("Europe/London"));
+        assertEquals(2, p.getLoadCount());
+    }
+
+    public void testPin() throws Exception {
+        System.setProperty(SIZE_PROPERTY, "1");
+        ZoneInfoProvider p = new ZoneInfoProvider(DATA);
+
+        DateTimeZone london = p.pin("Europe/London");
+        assertEquals("Europe/London", london.getID());
+        p.getZone("Europe/Paris");
+        p.getZone("Asia/Tokyo");
+        assertSame(london, p.getZone("Europe/London"));
+        assertEquals(3, p.getLoadCount());
+
+        p.unpin("Europe/London");
+        p.getZone("Europe/Paris");
+        assertEquals(4, p.getLoadCount());
+        assertNotSame(london, p.getZone("Europe/London"));
+        assertEquals(5, p.getLoadCount());
+
+        assertEquals(null, p.pin("Unknown/Zone"));
+        p.unpin("UTC");
+        assertSame(DateTimeZone.UTC, p.getZone("UTC"));
+    }
+
+    public void testPinnedZonesProperty() throws Exception {
+        System.setProperty(SIZE_PROPERTY, "0");
+        System.setProperty(PINNED_PROPERTY, "America/New_York, Europe/London,,Unknown/Zone");
+        ZoneInfoProvider p = new ZoneInfoProvider(DATA);
+        assertEquals(2, p.getLoadCount());
+
+        DateTimeZone newYork = p.getZone("America/New_York");
+        assertSame(newYork, p.getZone("US/Eastern"));
+        assertEquals(2, p.getLoadCount());
+        assertNotSame(p.getZone("Asia/Tokyo"), p.getZone("Asia/Tokyo"));
+        assertEquals(4, p.getLoadCount());
+    }
+
+}